@@ -0,0 +1,37 @@
+package com.camila.crud_spring.benchmark;
+
+import com.camila.crud_spring.enums.Category;
+import com.camila.crud_spring.enums.Status;
+import com.camila.crud_spring.model.Course;
+import com.camila.crud_spring.model.Lesson;
+
+final class BenchmarkData {
+
+    private static final Category[] CATEGORIES = Category.values();
+
+    private BenchmarkData() {
+    }
+
+    static Course course(long index, int lessons) {
+        Course course = new Course();
+        course.setName("Benchmark Course " + index);
+        course.setCategory(CATEGORIES[(int) (index % CATEGORIES.length)]);
+        course.setStatus(index % 10 == 0 ? Status.INACTIVE : Status.ACTIVE);
+
+        for (int i = 0; i < lessons; i++) {
+            Lesson lesson = new Lesson("Lesson " + index + "." + i, "%011d".formatted(index * 1000 + i));
+            lesson.setCourse(course);
+            course.getLessons().add(lesson);
+        }
+        return course;
+    }
+
+    static Course detachedCourse(long id, int lessons) {
+        Course course = course(id, lessons);
+        course.setId(id);
+        for (int i = 0; i < lessons; i++) {
+            course.getLessons().get(i).setId(id * 1000 + i);
+        }
+        return course;
+    }
+}
@@ -0,0 +1,95 @@
+package com.camila.crud_spring.benchmark;
+
+import com.camila.crud_spring.CrudSpringApplication;
+import com.camila.crud_spring.model.Course;
+import com.camila.crud_spring.model.Lesson;
+import com.camila.crud_spring.repository.CourseRepository;
+import com.camila.crud_spring.repository.LessonRepository;
+import com.camila.crud_spring.service.LessonSearchIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Compares the {@code LIKE '%x%'} lesson name query with the Lucene lesson index as the lesson
+ * table grows. The index should stay flat while the query scans every row.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LessonSearchBenchmark {
+
+    private static final int LESSONS_PER_COURSE = 10;
+
+    @Param({"1000", "10000", "100000"})
+    public int lessons;
+
+    private final Pageable page = PageRequest.of(0, 10);
+
+    private ConfigurableApplicationContext context;
+    private LessonRepository lessonRepository;
+    private LessonSearchIndex lessonSearchIndex;
+    private String term;
+
+    @Setup
+    public void setUp() {
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        context = new SpringApplicationBuilder(CrudSpringApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.profiles.active=dev",
+                        "--spring.datasource.url=jdbc:h2:mem:search-benchmark;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.camila.crud_spring=WARN",
+                        "--logging.level.org.springframework.web=WARN");
+
+        lessonRepository = context.getBean(LessonRepository.class);
+        lessonSearchIndex = context.getBean(LessonSearchIndex.class);
+
+        int courses = lessons / LESSONS_PER_COURSE;
+        List<Course> seeded = LongStream.range(0, courses)
+                .mapToObj(index -> BenchmarkData.course(index, LESSONS_PER_COURSE))
+                .toList();
+        context.getBean(CourseRepository.class).saveAll(seeded);
+        lessonSearchIndex.rebuild();
+
+        term = seeded.get(courses / 2).getLessons().get(3).getName();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<Lesson> likeQuery() {
+        return lessonRepository.findByNameContainingIgnoreCase(term, page);
+    }
+
+    @Benchmark
+    public Page<Long> searchIndex() {
+        return lessonSearchIndex.search(term, page);
+    }
+}
@@ -0,0 +1,62 @@
+package com.camila.crud_spring.benchmark;
+
+import com.camila.crud_spring.dto.CourseWithLessonsResponseDTO;
+import com.camila.crud_spring.dto.LessonDTO;
+import com.camila.crud_spring.dto.mapper.CourseMapper;
+import com.camila.crud_spring.dto.mapper.LessonMapper;
+import com.camila.crud_spring.model.Course;
+import com.camila.crud_spring.model.Lesson;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({"5", "50"})
+    private int lessons;
+
+    private final CourseMapper courseMapper = new CourseMapper();
+    private final LessonMapper lessonMapper = new LessonMapper();
+
+    private Course course;
+    private Lesson lesson;
+    private LessonDTO lessonDTO;
+
+    @Setup
+    public void setUp() {
+        course = BenchmarkData.detachedCourse(1, lessons);
+        lesson = course.getLessons().getFirst();
+        lessonDTO = lessonMapper.toLessonDTO(lesson);
+    }
+
+    @Benchmark
+    public CourseWithLessonsResponseDTO courseWithLessonsResponseDTO() {
+        return courseMapper.toCourseWithLessonsResponseDTO(course);
+    }
+
+    @Benchmark
+    public LessonDTO lessonToDTO() {
+        return lessonMapper.toLessonDTO(lesson);
+    }
+
+    @Benchmark
+    public Lesson lessonFromDTO() {
+        return lessonMapper.toLesson(lessonDTO);
+    }
+}
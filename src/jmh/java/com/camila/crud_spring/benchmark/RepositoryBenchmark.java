@@ -0,0 +1,183 @@
+package com.camila.crud_spring.benchmark;
+
+import com.camila.crud_spring.CrudSpringApplication;
+import com.camila.crud_spring.dto.CourseDTO;
+import com.camila.crud_spring.dto.CourseWithLessonsResponseDTO;
+import com.camila.crud_spring.dto.LessonDTO;
+import com.camila.crud_spring.dto.mapper.CourseMapper;
+import com.camila.crud_spring.dto.mapper.LessonMapper;
+import com.camila.crud_spring.enums.Status;
+import com.camila.crud_spring.model.Course;
+import com.camila.crud_spring.model.Lesson;
+import com.camila.crud_spring.repository.CourseRepository;
+import com.camila.crud_spring.repository.LessonRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Runs the repository queries behind each read endpoint against an in-memory H2 seeded with
+ * {@value #COURSES} courses of {@value #LESSONS_PER_COURSE} lessons. Queries whose results are
+ * mapped while lazy associations are still reachable run in a read-only transaction, as they
+ * do in the services.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RepositoryBenchmark {
+
+    static final int COURSES = 2000;
+    static final int LESSONS_PER_COURSE = 10;
+
+    private final Pageable coursePage = PageRequest.of(20, 20, Sort.by("name"));
+    private final Pageable lessonPage = PageRequest.of(0, 10, Sort.by("name"));
+    private final Sort keysetSort = Sort.by("name", "id");
+
+    private ConfigurableApplicationContext context;
+    private CourseRepository courseRepository;
+    private LessonRepository lessonRepository;
+    private CourseMapper courseMapper;
+    private LessonMapper lessonMapper;
+    private TransactionTemplate readOnly;
+
+    private Long courseId;
+    private Long lessonId;
+    private String youtubeUrl;
+
+    @Setup
+    public void setUp() {
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        context = new SpringApplicationBuilder(CrudSpringApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.profiles.active=dev",
+                        "--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.camila.crud_spring=WARN",
+                        "--logging.level.org.springframework.web=WARN");
+
+        courseRepository = context.getBean(CourseRepository.class);
+        lessonRepository = context.getBean(LessonRepository.class);
+        courseMapper = context.getBean(CourseMapper.class);
+        lessonMapper = context.getBean(LessonMapper.class);
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+
+        List<Course> courses = LongStream.range(0, COURSES)
+                .mapToObj(index -> BenchmarkData.course(index, LESSONS_PER_COURSE))
+                .toList();
+        courseRepository.saveAll(courses);
+
+        Course course = courses.get(COURSES / 2 + 1);
+        courseId = course.getId();
+        lessonId = course.getLessons().getFirst().getId();
+        youtubeUrl = course.getLessons().getFirst().getYoutubeUrl();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<CourseDTO> activeCourseDTOPage() {
+        return courseRepository.findCourseDTOsByStatus(Status.ACTIVE, coursePage);
+    }
+
+    @Benchmark
+    public Page<CourseDTO> activeCourseEntityPage() {
+        return readOnly.execute(status -> courseRepository.findByStatus(Status.ACTIVE, coursePage)
+                .map(courseMapper::toCourseDTO));
+    }
+
+    @Benchmark
+    public Page<CourseDTO> allCourseDTOPage() {
+        return courseRepository.findAllCourseDTOs(coursePage);
+    }
+
+    @Benchmark
+    public Window<Course> activeCourseKeysetWindow() {
+        return courseRepository.findByStatus(Status.ACTIVE, ScrollPosition.keyset(), keysetSort, Limit.of(20));
+    }
+
+    @Benchmark
+    public long countActiveCourses() {
+        return courseRepository.countByStatus(Status.ACTIVE);
+    }
+
+    @Benchmark
+    public Optional<CourseDTO> activeCourseDTOById() {
+        return courseRepository.findCourseDTOByIdAndStatus(courseId, Status.ACTIVE);
+    }
+
+    @Benchmark
+    public Page<CourseWithLessonsResponseDTO> activeCoursesWithLessonsPage() {
+        return readOnly.execute(status -> courseRepository.findByStatusWithLessons(Status.ACTIVE, coursePage)
+                .map(courseMapper::toCourseWithLessonsResponseDTO));
+    }
+
+    @Benchmark
+    public Optional<CourseWithLessonsResponseDTO> courseWithLessonsById() {
+        return readOnly.execute(status -> courseRepository.findByIdAndStatusWithLessons(courseId, Status.ACTIVE)
+                .map(courseMapper::toCourseWithLessonsResponseDTO));
+    }
+
+    @Benchmark
+    public Page<LessonDTO> lessonDTOPageByCourse() {
+        return lessonRepository.findLessonDTOsByCourseId(courseId, lessonPage);
+    }
+
+    @Benchmark
+    public Page<LessonDTO> lessonEntityPageByCourse() {
+        return readOnly.execute(status -> lessonRepository.findByCourseId(courseId, lessonPage)
+                .map(lessonMapper::toLessonDTO));
+    }
+
+    @Benchmark
+    public Page<LessonDTO> allLessonDTOPage() {
+        return lessonRepository.findAllLessonDTOs(lessonPage);
+    }
+
+    @Benchmark
+    public Optional<LessonDTO> lessonDTOById() {
+        return lessonRepository.findLessonDTOById(lessonId);
+    }
+
+    @Benchmark
+    public Page<Lesson> lessonsByName() {
+        return lessonRepository.findByNameContainingIgnoreCase("Lesson 1000.", lessonPage);
+    }
+
+    @Benchmark
+    public Optional<Lesson> lessonByYoutubeUrl() {
+        return lessonRepository.findByYoutubeUrl(youtubeUrl);
+    }
+}
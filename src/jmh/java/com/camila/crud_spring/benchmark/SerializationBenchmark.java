@@ -0,0 +1,68 @@
+package com.camila.crud_spring.benchmark;
+
+import com.camila.crud_spring.dto.CourseDTO;
+import com.camila.crud_spring.dto.CourseWithLessonsResponseDTO;
+import com.camila.crud_spring.dto.mapper.CourseMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.web.PagedModel;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Serializes the two largest response bodies the API produces. Pages are wrapped in
+ * {@link PagedModel} as the application does with {@code PageSerializationMode.VIA_DTO}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"10", "100"})
+    private int size;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private PagedModel<CourseDTO> coursePage;
+    private CourseWithLessonsResponseDTO courseWithLessons;
+
+    @Setup
+    public void setUp() {
+        CourseMapper courseMapper = new CourseMapper();
+
+        List<CourseDTO> courses = LongStream.range(0, size)
+                .mapToObj(id -> courseMapper.toCourseDTO(BenchmarkData.detachedCourse(id, 0)))
+                .toList();
+        coursePage = new PagedModel<>(new PageImpl<>(courses, PageRequest.of(0, size), size * 10L));
+        courseWithLessons = courseMapper.toCourseWithLessonsResponseDTO(BenchmarkData.detachedCourse(1, size));
+    }
+
+    @Benchmark
+    public byte[] coursePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(coursePage);
+    }
+
+    @Benchmark
+    public byte[] courseWithLessons() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(courseWithLessons);
+    }
+}
@@ -0,0 +1,102 @@
+package com.camila.crud_spring.benchmark;
+
+import com.camila.crud_spring.config.ContentNegotiationConfig;
+import com.camila.crud_spring.dto.CourseDTO;
+import com.camila.crud_spring.dto.CourseWithLessonsResponseDTO;
+import com.camila.crud_spring.dto.mapper.CourseMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.web.PagedModel;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compares the negotiable response formats on the list bodies: CPU to serialize a course page and a
+ * course with lessons, alone and followed by gzip as the server applies it. The bytes each variant
+ * puts on the wire are printed once per fork, since they do not change between invocations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WireFormatBenchmark {
+
+    @Param({"10", "100"})
+    private int size;
+
+    @Param({"json", "smile", "cbor"})
+    private String format;
+
+    private ObjectMapper objectMapper;
+    private PagedModel<CourseDTO> coursePage;
+    private CourseWithLessonsResponseDTO courseWithLessons;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = switch (format) {
+            case "smile" -> Jackson2ObjectMapperBuilder.smile().factory(ContentNegotiationConfig.smileFactory()).build();
+            case "cbor" -> Jackson2ObjectMapperBuilder.cbor().factory(ContentNegotiationConfig.cborFactory()).build();
+            default -> Jackson2ObjectMapperBuilder.json().build();
+        };
+
+        CourseMapper courseMapper = new CourseMapper();
+        List<CourseDTO> courses = LongStream.range(0, size)
+                .mapToObj(id -> courseMapper.toCourseDTO(BenchmarkData.detachedCourse(id, 0)))
+                .toList();
+        coursePage = new PagedModel<>(new PageImpl<>(courses, PageRequest.of(0, size), size * 10L));
+        courseWithLessons = courseMapper.toCourseWithLessonsResponseDTO(BenchmarkData.detachedCourse(1, size));
+
+        System.out.printf("%n%s, size %d: course page %d bytes (%d gzipped), course with lessons %d bytes (%d gzipped)%n",
+                format, size,
+                coursePage().length, coursePageGzipped().length,
+                courseWithLessons().length, courseWithLessonsGzipped().length);
+    }
+
+    @Benchmark
+    public byte[] coursePage() throws IOException {
+        return objectMapper.writeValueAsBytes(coursePage);
+    }
+
+    @Benchmark
+    public byte[] coursePageGzipped() throws IOException {
+        return gzip(coursePage);
+    }
+
+    @Benchmark
+    public byte[] courseWithLessons() throws IOException {
+        return objectMapper.writeValueAsBytes(courseWithLessons);
+    }
+
+    @Benchmark
+    public byte[] courseWithLessonsGzipped() throws IOException {
+        return gzip(courseWithLessons);
+    }
+
+    private byte[] gzip(Object body) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            objectMapper.writeValue(gzip, body);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,277 @@
+package com.camila.crud_spring.loadtest;
+
+import com.camila.crud_spring.enums.Category;
+import com.camila.crud_spring.model.Course;
+import com.camila.crud_spring.model.Lesson;
+import com.camila.crud_spring.repository.CourseRepository;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Sends one request per {@link Endpoint} to a running instance of the API. Reads use the seeded
+ * catalog; writes only touch courses and lessons this client created itself. Reads can be pointed
+ * at the reactive mirror of the API with {@link #REACTIVE_PREFIX}.
+ */
+final class CourseApiClient implements LoadTestRunner.Action {
+
+    private static final int SEEDED_COURSES = 500;
+    private static final int LESSONS_PER_COURSE = 10;
+    private static final int BATCH_SIZE = 5;
+    private static final String JSON = "application/json";
+    private static final String NDJSON = "application/x-ndjson";
+    private static final Set<Integer> OK = Set.of(200, 201, 204);
+
+    static final String SERVLET_PREFIX = "/api";
+    static final String REACTIVE_PREFIX = "/api/reactive";
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final int port;
+    private final String readPrefix;
+    private final List<Long> courseIds;
+    private final List<Long> lessonIds;
+    private final Deque<Long> ownedCourseIds = new ConcurrentLinkedDeque<>();
+    private final Deque<Long> ownedLessonIds = new ConcurrentLinkedDeque<>();
+
+    private CourseApiClient(int port, String readPrefix, List<Long> courseIds, List<Long> lessonIds) {
+        this.port = port;
+        this.readPrefix = readPrefix;
+        this.courseIds = courseIds;
+        this.lessonIds = lessonIds;
+    }
+
+    /**
+     * Seeds the catalog through the repository and returns a client for the instance on {@code port}.
+     */
+    static CourseApiClient seed(int port, CourseRepository courseRepository) {
+        List<Course> courses = courseRepository.saveAll(IntStream.range(0, SEEDED_COURSES)
+                .mapToObj(CourseApiClient::seedCourse)
+                .toList());
+
+        return new CourseApiClient(port, SERVLET_PREFIX,
+                courses.stream().map(Course::getId).toList(),
+                courses.stream()
+                        .flatMap(course -> course.getLessons().stream())
+                        .map(Lesson::getId)
+                        .toList());
+    }
+
+    /**
+     * Returns a client for the same seeded catalog that sends its reads to {@code readPrefix}.
+     */
+    CourseApiClient readingFrom(String readPrefix) {
+        return new CourseApiClient(port, readPrefix, courseIds, lessonIds);
+    }
+
+    @Override
+    public boolean execute(Endpoint endpoint) throws Exception {
+        return switch (endpoint) {
+            case COURSE_PAGE -> get(readPrefix + "/courses?page=" + randomPage(), OK);
+            case COURSE_SLICE -> get(readPrefix + "/courses?count=approximate&page=" + randomPage(), OK);
+            case COURSE_CURSOR -> get(readPrefix + "/courses?after=", OK);
+            case COURSE_ALL_PAGE -> get(readPrefix + "/courses/all?page=" + randomPage(), OK);
+            case COURSE_BY_ID -> get(readPrefix + "/courses/" + random(courseIds), OK);
+            case COURSE_WITH_LESSONS -> get(readPrefix + "/courses/" + random(courseIds) + "/with-lessons", OK);
+            case COURSE_ANY_WITH_LESSONS -> get(readPrefix + "/courses/all/" + random(courseIds) + "/with-lessons", OK);
+            case COURSE_PAGE_WITH_LESSONS -> get(readPrefix + "/courses/with-lessons?page=" + randomPage(), OK);
+            case COURSE_EXPORT -> get(REACTIVE_PREFIX.equals(readPrefix)
+                    ? REACTIVE_PREFIX + "/courses/stream"
+                    : "/api/courses/export?format=ndjson", OK);
+            case COURSE_CREATE -> createCourse();
+            case COURSE_IMPORT -> send(HttpRequest.newBuilder(uri("/api/courses/import"))
+                    .header("Content-Type", NDJSON)
+                    .POST(HttpRequest.BodyPublishers.ofString(IntStream.range(0, BATCH_SIZE)
+                            .mapToObj(i -> courseJson("Imported Course"))
+                            .collect(Collectors.joining("\n")))), OK) != null;
+            case COURSE_UPDATE -> withOwnedCourse(id -> send(HttpRequest.newBuilder(uri("/api/courses/" + id))
+                    .header("Content-Type", JSON)
+                    .PUT(HttpRequest.BodyPublishers.ofString(courseJson("Updated Course"))), OK) != null, false);
+            case COURSE_STATUS -> updateStatus();
+            case COURSE_SOFT_DELETE -> withOwnedCourse(id -> delete("/api/courses/" + id), false);
+            case COURSE_HARD_DELETE -> withOwnedCourse(id -> delete("/api/courses/" + id + "/hard"), true);
+            case COURSE_BULK_DELETE -> bulkDelete();
+            case LESSON_PAGE -> get(readPrefix + "/lessons?page=" + randomPage(), OK);
+            case LESSON_SLICE -> get(readPrefix + "/lessons?count=approximate&page=" + randomPage(), OK);
+            case LESSON_CURSOR -> get(readPrefix + "/lessons?after=", OK);
+            case LESSON_BY_COURSE -> get(readPrefix + "/lessons/course/" + random(courseIds), OK);
+            case LESSON_BY_ID -> get(readPrefix + "/lessons/" + random(lessonIds), OK);
+            case LESSON_CREATE -> createLesson();
+            case LESSON_UPDATE -> withOwnedLesson(id -> send(HttpRequest.newBuilder(uri("/api/lessons/" + id))
+                    .header("Content-Type", JSON)
+                    .PUT(HttpRequest.BodyPublishers.ofString(lessonJson("Updated Lesson"))), OK) != null, false);
+            case LESSON_DELETE -> withOwnedLesson(id -> delete("/api/lessons/" + id), true);
+        };
+    }
+
+    private boolean createCourse() throws Exception {
+        HttpResponse<String> response = send(HttpRequest.newBuilder(uri("/api/courses"))
+                .header("Content-Type", JSON)
+                .POST(HttpRequest.BodyPublishers.ofString(courseJson("Load Test Course"))), OK);
+        if (response == null) {
+            return false;
+        }
+        response.headers().firstValue("Location").map(CourseApiClient::idFromLocation).ifPresent(ownedCourseIds::addLast);
+        return true;
+    }
+
+    private boolean createLesson() throws Exception {
+        HttpResponse<String> response = send(HttpRequest.newBuilder(uri("/api/lessons/course/" + random(courseIds)))
+                .header("Content-Type", JSON)
+                .POST(HttpRequest.BodyPublishers.ofString(lessonJson("Load Test Lesson"))), OK);
+        if (response == null) {
+            return false;
+        }
+        response.headers().firstValue("Location").map(CourseApiClient::idFromLocation).ifPresent(ownedLessonIds::addLast);
+        return true;
+    }
+
+    private boolean updateStatus() throws Exception {
+        List<Long> ids = pollOwned(ownedCourseIds);
+        if (ids.isEmpty()) {
+            return createCourse();
+        }
+        try {
+            return send(HttpRequest.newBuilder(uri("/api/courses/status"))
+                    .header("Content-Type", JSON)
+                    .method("PATCH", HttpRequest.BodyPublishers.ofString(
+                            "{\"ids\":%s,\"status\":\"%s\"}".formatted(ids, randomStatus()))), OK) != null;
+        } finally {
+            ids.forEach(ownedCourseIds::addLast);
+        }
+    }
+
+    private boolean bulkDelete() throws Exception {
+        List<Long> ids = pollOwned(ownedCourseIds);
+        if (ids.isEmpty()) {
+            return createCourse();
+        }
+        String query = ids.stream().map(String::valueOf).collect(Collectors.joining(","));
+        return send(HttpRequest.newBuilder(uri("/api/courses/hard?ids=" + query)).DELETE(), OK) != null;
+    }
+
+    /**
+     * Runs the action on a course created by this test. The id is taken out of the pool while the
+     * request runs so that no two workers write the same row; it is put back unless deleted.
+     */
+    private boolean withOwnedCourse(IdAction action, boolean deletes) throws Exception {
+        return withOwned(ownedCourseIds, action, deletes, this::createCourse);
+    }
+
+    private boolean withOwnedLesson(IdAction action, boolean deletes) throws Exception {
+        return withOwned(ownedLessonIds, action, deletes, this::createLesson);
+    }
+
+    private static boolean withOwned(Deque<Long> owned, IdAction action, boolean deletes,
+                                     Fallback fallback) throws Exception {
+        Long id = owned.pollFirst();
+        if (id == null) {
+            return fallback.run();
+        }
+        try {
+            return action.run(id);
+        } finally {
+            if (!deletes) {
+                owned.addLast(id);
+            }
+        }
+    }
+
+    private static List<Long> pollOwned(Deque<Long> owned) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            Long id = owned.pollFirst();
+            if (id == null) {
+                break;
+            }
+            ids.add(id);
+        }
+        return ids;
+    }
+
+    private boolean get(String path, Set<Integer> expected) throws Exception {
+        return send(HttpRequest.newBuilder(uri(path)).GET(), expected) != null;
+    }
+
+    private boolean delete(String path) throws Exception {
+        return send(HttpRequest.newBuilder(uri(path)).DELETE(), OK) != null;
+    }
+
+    /**
+     * Sends the request and returns the response, or {@code null} when its status is not expected.
+     */
+    private HttpResponse<String> send(HttpRequest.Builder request, Set<Integer> expected) throws Exception {
+        HttpResponse<String> response = client.send(request.timeout(Duration.ofSeconds(30)).build(),
+                HttpResponse.BodyHandlers.ofString());
+        return expected.contains(response.statusCode()) ? response : null;
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static Course seedCourse(int index) {
+        Category[] categories = Category.values();
+        Course course = new Course();
+        course.setName("Seeded Course " + index);
+        course.setCategory(categories[index % categories.length]);
+        for (int i = 0; i < LESSONS_PER_COURSE; i++) {
+            Lesson lesson = new Lesson();
+            lesson.setName("Seeded Lesson " + i);
+            lesson.setYoutubeUrl("seed%07d".formatted(index * LESSONS_PER_COURSE + i));
+            lesson.setCourse(course);
+            course.getLessons().add(lesson);
+        }
+        return course;
+    }
+
+
+    private static String courseJson(String name) {
+        Category category = Category.values()[ThreadLocalRandom.current().nextInt(Category.values().length)];
+        return "{\"name\":\"%s\",\"category\":\"%s\",\"lessons\":[%s,%s]}"
+                .formatted(name, category.getValue(), lessonJson("Lesson one"), lessonJson("Lesson two"));
+    }
+
+    private static String lessonJson(String name) {
+        return "{\"name\":\"%s\",\"youtubeUrl\":\"loadtest123\"}".formatted(name);
+    }
+
+    private static String randomStatus() {
+        return ThreadLocalRandom.current().nextBoolean() ? "Active" : "Inactive";
+    }
+
+    private static int randomPage() {
+        return ThreadLocalRandom.current().nextInt(SEEDED_COURSES / 10);
+    }
+
+    private static <T> T random(List<T> values) {
+        return values.get(ThreadLocalRandom.current().nextInt(values.size()));
+    }
+
+    private static Long idFromLocation(String location) {
+        return Long.valueOf(location.substring(location.lastIndexOf('/') + 1));
+    }
+
+    @FunctionalInterface
+    private interface IdAction {
+        boolean run(Long id) throws Exception;
+    }
+
+    @FunctionalInterface
+    private interface Fallback {
+        boolean run() throws Exception;
+    }
+}
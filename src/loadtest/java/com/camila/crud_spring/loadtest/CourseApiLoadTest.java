@@ -0,0 +1,106 @@
+package com.camila.crud_spring.loadtest;
+
+import com.camila.crud_spring.repository.CourseRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Drives the REST API over real HTTP with the weighted scenarios of {@link LoadScenario} and fails
+ * when an endpoint exceeds its latency or error budget. Reports are written to
+ * {@code target/load-test}. Run with {@code mvn -Pload-test test}.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1",
+        "spring.r2dbc.url=r2dbc:h2:mem:///loadtest?options=DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false",
+        "logging.level.com.camila.crud_spring=WARN",
+        "logging.level.org.springframework.web=WARN"
+})
+@ActiveProfiles("dev")
+@DisplayName("Course API Load Test")
+class CourseApiLoadTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Value("${loadtest.scenarios:browse,bulk-edit,mixed}")
+    private String scenarios;
+
+    @Value("${loadtest.duration:30s}")
+    private Duration duration;
+
+    @Value("${loadtest.warmup:10s}")
+    private Duration warmup;
+
+    @Value("${loadtest.concurrency:8}")
+    private int concurrency;
+
+    @Value("${loadtest.budget.p95-ms:#{null}}")
+    private Long p95Override;
+
+    @Value("${loadtest.budget.p99-ms:#{null}}")
+    private Long p99Override;
+
+    @Value("${loadtest.budget.error-rate:#{null}}")
+    private Double errorRateOverride;
+
+    @Value("${loadtest.report-dir:target/load-test}")
+    private Path reportDirectory;
+
+    private CourseApiClient apiClient;
+
+    @BeforeEach
+    void setUp() {
+        apiClient = CourseApiClient.seed(port, courseRepository);
+    }
+
+    @Test
+    @DisplayName("Should keep every endpoint within its latency and error budget")
+    void shouldKeepEveryEndpointWithinBudget() throws Exception {
+        List<String> violations = new ArrayList<>();
+
+        for (LoadScenario scenario : parseScenarios()) {
+            LoadTestRunner runner = new LoadTestRunner(scenario.getWeights(), concurrency, apiClient);
+            runner.run(warmup);
+            LoadTestReport report = new LoadTestReport(scenario, runner.run(duration));
+
+            report.write(reportDirectory);
+            System.out.println(report.summary());
+            violations.addAll(report.violations(budgetFor(scenario)));
+        }
+
+        assertTrue(violations.isEmpty(), () -> "Budget exceeded:\n" + String.join("\n", violations));
+    }
+
+    private List<LoadScenario> parseScenarios() {
+        return Arrays.stream(scenarios.split(","))
+                .map(LoadScenario::fromString)
+                .toList();
+    }
+
+    private LoadScenario.LatencyBudget budgetFor(LoadScenario scenario) {
+        LoadScenario.LatencyBudget defaults = scenario.getBudget();
+        return new LoadScenario.LatencyBudget(
+                p95Override != null ? p95Override : defaults.p95Millis(),
+                p99Override != null ? p99Override : defaults.p99Millis(),
+                errorRateOverride != null ? errorRateOverride : defaults.errorRate());
+    }
+}
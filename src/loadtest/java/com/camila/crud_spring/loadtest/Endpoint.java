@@ -0,0 +1,56 @@
+package com.camila.crud_spring.loadtest;
+
+enum Endpoint {
+    COURSE_PAGE("GET /api/courses"),
+    COURSE_SLICE("GET /api/courses?count=approximate"),
+    COURSE_CURSOR("GET /api/courses?after="),
+    COURSE_ALL_PAGE("GET /api/courses/all"),
+    COURSE_BY_ID("GET /api/courses/{id}"),
+    COURSE_WITH_LESSONS("GET /api/courses/{id}/with-lessons"),
+    COURSE_ANY_WITH_LESSONS("GET /api/courses/all/{id}/with-lessons"),
+    COURSE_PAGE_WITH_LESSONS("GET /api/courses/with-lessons"),
+    COURSE_EXPORT("GET /api/courses/export", 20),
+    COURSE_CREATE("POST /api/courses"),
+    COURSE_IMPORT("POST /api/courses/import"),
+    COURSE_UPDATE("PUT /api/courses/{id}"),
+    COURSE_STATUS("PATCH /api/courses/status"),
+    COURSE_SOFT_DELETE("DELETE /api/courses/{id}"),
+    COURSE_HARD_DELETE("DELETE /api/courses/{id}/hard"),
+    COURSE_BULK_DELETE("DELETE /api/courses/hard?ids="),
+    LESSON_PAGE("GET /api/lessons"),
+    LESSON_SLICE("GET /api/lessons?count=approximate"),
+    LESSON_CURSOR("GET /api/lessons?after="),
+    LESSON_BY_COURSE("GET /api/lessons/course/{courseId}"),
+    LESSON_BY_ID("GET /api/lessons/{id}"),
+    LESSON_CREATE("POST /api/lessons/course/{courseId}"),
+    LESSON_UPDATE("PUT /api/lessons/{id}"),
+    LESSON_DELETE("DELETE /api/lessons/{id}");
+
+    private final String label;
+    private final int budgetFactor;
+
+    Endpoint(String label) {
+        this(label, 1);
+    }
+
+    /**
+     * @param budgetFactor multiplier applied to the scenario latency budget, for endpoints that
+     *                     stream the whole table instead of a page
+     */
+    Endpoint(String label, int budgetFactor) {
+        this.label = label;
+        this.budgetFactor = budgetFactor;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public int getBudgetFactor() {
+        return budgetFactor;
+    }
+
+    public boolean isRead() {
+        return label.startsWith("GET ");
+    }
+}
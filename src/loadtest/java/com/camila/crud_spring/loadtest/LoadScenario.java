@@ -0,0 +1,65 @@
+package com.camila.crud_spring.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import static com.camila.crud_spring.loadtest.Endpoint.*;
+
+/**
+ * Traffic mixes the load test can drive. Weights are relative request frequencies; the budget is
+ * the default applied to every endpoint of the scenario.
+ */
+enum LoadScenario {
+    BROWSE(new LatencyBudget(150, 400, 0.01), Map.ofEntries(
+            Map.entry(COURSE_PAGE, 20), Map.entry(COURSE_SLICE, 10), Map.entry(COURSE_CURSOR, 10),
+            Map.entry(COURSE_ALL_PAGE, 5), Map.entry(COURSE_BY_ID, 15), Map.entry(COURSE_WITH_LESSONS, 15),
+            Map.entry(COURSE_ANY_WITH_LESSONS, 5), Map.entry(COURSE_PAGE_WITH_LESSONS, 5),
+            Map.entry(LESSON_PAGE, 5), Map.entry(LESSON_SLICE, 3), Map.entry(LESSON_CURSOR, 3),
+            Map.entry(LESSON_BY_COURSE, 10), Map.entry(LESSON_BY_ID, 10),
+            Map.entry(COURSE_CREATE, 1), Map.entry(COURSE_UPDATE, 1), Map.entry(LESSON_CREATE, 1))),
+
+    BULK_EDIT(new LatencyBudget(300, 750, 0.01), Map.ofEntries(
+            Map.entry(COURSE_CREATE, 15), Map.entry(COURSE_IMPORT, 5), Map.entry(COURSE_UPDATE, 15),
+            Map.entry(COURSE_STATUS, 10), Map.entry(COURSE_SOFT_DELETE, 5), Map.entry(COURSE_HARD_DELETE, 5),
+            Map.entry(COURSE_BULK_DELETE, 5), Map.entry(LESSON_CREATE, 15), Map.entry(LESSON_UPDATE, 10),
+            Map.entry(LESSON_DELETE, 5), Map.entry(COURSE_BY_ID, 5), Map.entry(COURSE_WITH_LESSONS, 5))),
+
+    MIXED(new LatencyBudget(250, 600, 0.01), Map.ofEntries(
+            Map.entry(COURSE_PAGE, 15), Map.entry(COURSE_SLICE, 5), Map.entry(COURSE_CURSOR, 5),
+            Map.entry(COURSE_ALL_PAGE, 3), Map.entry(COURSE_BY_ID, 10), Map.entry(COURSE_WITH_LESSONS, 10),
+            Map.entry(COURSE_ANY_WITH_LESSONS, 3), Map.entry(COURSE_PAGE_WITH_LESSONS, 3),
+            Map.entry(COURSE_EXPORT, 1), Map.entry(LESSON_PAGE, 5), Map.entry(LESSON_SLICE, 2),
+            Map.entry(LESSON_CURSOR, 2), Map.entry(LESSON_BY_COURSE, 8), Map.entry(LESSON_BY_ID, 8),
+            Map.entry(COURSE_CREATE, 5), Map.entry(COURSE_IMPORT, 1), Map.entry(COURSE_UPDATE, 5),
+            Map.entry(COURSE_STATUS, 2), Map.entry(COURSE_SOFT_DELETE, 2), Map.entry(COURSE_HARD_DELETE, 2),
+            Map.entry(COURSE_BULK_DELETE, 1), Map.entry(LESSON_CREATE, 4), Map.entry(LESSON_UPDATE, 3),
+            Map.entry(LESSON_DELETE, 2)));
+
+    private final LatencyBudget budget;
+    private final Map<Endpoint, Integer> weights;
+
+    LoadScenario(LatencyBudget budget, Map<Endpoint, Integer> weights) {
+        this.budget = budget;
+        this.weights = new EnumMap<>(weights);
+    }
+
+    public LatencyBudget getBudget() {
+        return budget;
+    }
+
+    public Map<Endpoint, Integer> getWeights() {
+        return weights;
+    }
+
+    public static LoadScenario fromString(String value) {
+        try {
+            return LoadScenario.valueOf(value.trim().replace('-', '_').toUpperCase());
+        } catch (Exception ex) {
+            throw new IllegalArgumentException(
+                    "Invalid value '%s' for scenario given; Has to be either 'browse', 'bulk-edit' or 'mixed' (case insensitive)".formatted(value), ex);
+        }
+    }
+
+    record LatencyBudget(long p95Millis, long p99Millis, double errorRate) {
+    }
+}
@@ -0,0 +1,106 @@
+package com.camila.crud_spring.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Renders a run as a per-endpoint percentile table and checks it against a latency budget.
+ * Latencies are recorded in microseconds and reported in milliseconds.
+ */
+final class LoadTestReport {
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+    private static final long MIN_SAMPLES_FOR_BUDGET = 20;
+    private static final String ROW = "%-40s %8d %9.1f %8.2f %8.2f %8.2f %8.2f %7d%n";
+
+    private final LoadScenario scenario;
+    private final LoadTestRunner.Result result;
+
+    LoadTestReport(LoadScenario scenario, LoadTestRunner.Result result) {
+        this.scenario = scenario;
+        this.result = result;
+    }
+
+    String summary() {
+        StringBuilder out = new StringBuilder();
+        double seconds = result.getElapsed().toNanos() / 1_000_000_000.0;
+        out.append("Scenario %s (%.1fs)%n".formatted(scenario, seconds));
+        out.append("%-40s %8s %9s %8s %8s %8s %8s %7s%n".formatted(
+                "endpoint", "count", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms", "errors"));
+
+        Histogram total = new Histogram(3);
+        long totalErrors = 0;
+        for (Map.Entry<Endpoint, Histogram> entry : result.getLatencies().entrySet()) {
+            Histogram histogram = entry.getValue();
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            long errors = result.getErrors(entry.getKey());
+            out.append(row(entry.getKey().getLabel(), histogram, errors, seconds));
+            total.add(histogram);
+            totalErrors += errors;
+        }
+        out.append(row("TOTAL", total, totalErrors, seconds));
+        return out.toString();
+    }
+
+    void write(Path directory) throws IOException {
+        Path scenarioDirectory = Files.createDirectories(directory.resolve(scenario.name().toLowerCase()));
+        Files.writeString(scenarioDirectory.resolve("summary.txt"), summary());
+
+        for (Map.Entry<Endpoint, Histogram> entry : result.getLatencies().entrySet()) {
+            if (entry.getValue().getTotalCount() == 0) {
+                continue;
+            }
+            Path file = scenarioDirectory.resolve(entry.getKey().name().toLowerCase() + ".hgrm");
+            try (PrintStream stream = new PrintStream(Files.newOutputStream(file))) {
+                entry.getValue().outputPercentileDistribution(stream, MICROS_PER_MILLI);
+            }
+        }
+    }
+
+    List<String> violations(LoadScenario.LatencyBudget budget) {
+        List<String> violations = new ArrayList<>();
+        for (Map.Entry<Endpoint, Histogram> entry : result.getLatencies().entrySet()) {
+            Histogram histogram = entry.getValue();
+            long count = histogram.getTotalCount();
+            if (count < MIN_SAMPLES_FOR_BUDGET) {
+                continue;
+            }
+
+            String label = scenario + " " + entry.getKey().getLabel();
+            double p95 = millis(histogram.getValueAtPercentile(95));
+            double p99 = millis(histogram.getValueAtPercentile(99));
+            double errorRate = (double) result.getErrors(entry.getKey()) / count;
+            long p95Budget = budget.p95Millis() * entry.getKey().getBudgetFactor();
+            long p99Budget = budget.p99Millis() * entry.getKey().getBudgetFactor();
+            if (p95 > p95Budget) {
+                violations.add("%s: p95 %.2f ms > %d ms".formatted(label, p95, p95Budget));
+            }
+            if (p99 > p99Budget) {
+                violations.add("%s: p99 %.2f ms > %d ms".formatted(label, p99, p99Budget));
+            }
+            if (errorRate > budget.errorRate()) {
+                violations.add("%s: error rate %.4f > %.4f".formatted(label, errorRate, budget.errorRate()));
+            }
+        }
+        return violations;
+    }
+
+    private static String row(String label, Histogram histogram, long errors, double seconds) {
+        return ROW.formatted(label, histogram.getTotalCount(), histogram.getTotalCount() / seconds,
+                millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(95)),
+                millis(histogram.getValueAtPercentile(99)), millis(histogram.getMaxValue()), errors);
+    }
+
+    private static double millis(long micros) {
+        return micros / MICROS_PER_MILLI;
+    }
+}
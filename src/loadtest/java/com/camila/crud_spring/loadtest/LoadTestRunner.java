@@ -0,0 +1,121 @@
+package com.camila.crud_spring.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Closed-loop load generator: each worker picks a weighted endpoint, runs it and records the
+ * latency in that endpoint's histogram, until the run duration is over.
+ */
+final class LoadTestRunner {
+
+    private final Endpoint[] endpoints;
+    private final int[] cumulativeWeights;
+    private final int concurrency;
+    private final Action action;
+
+    LoadTestRunner(Map<Endpoint, Integer> weights, int concurrency, Action action) {
+        this.endpoints = weights.keySet().toArray(Endpoint[]::new);
+        this.cumulativeWeights = new int[endpoints.length];
+        int total = 0;
+        for (int i = 0; i < endpoints.length; i++) {
+            total += weights.get(endpoints[i]);
+            cumulativeWeights[i] = total;
+        }
+        this.concurrency = concurrency;
+        this.action = action;
+    }
+
+    Result run(Duration duration) throws InterruptedException {
+        Result result = new Result(endpoints);
+        long deadline = System.nanoTime() + duration.toNanos();
+
+        List<Callable<Void>> workers = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            workers.add(() -> {
+                while (System.nanoTime() < deadline) {
+                    Endpoint endpoint = pick();
+                    long start = System.nanoTime();
+                    boolean ok;
+                    try {
+                        ok = action.execute(endpoint);
+                    } catch (Exception ex) {
+                        ok = false;
+                    }
+                    result.record(endpoint, TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start), ok);
+                }
+                return null;
+            });
+        }
+
+        long started = System.nanoTime();
+        try (ExecutorService executor = Executors.newFixedThreadPool(concurrency)) {
+            executor.invokeAll(workers);
+        }
+        result.elapsed = Duration.ofNanos(System.nanoTime() - started);
+        return result;
+    }
+
+    private Endpoint pick() {
+        int value = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return endpoints[i];
+            }
+        }
+        return endpoints[endpoints.length - 1];
+    }
+
+    @FunctionalInterface
+    interface Action {
+        /**
+         * Sends one request to the endpoint and returns whether the response was an expected one.
+         */
+        boolean execute(Endpoint endpoint) throws Exception;
+    }
+
+    static final class Result {
+
+        private final Map<Endpoint, Histogram> latencies = new EnumMap<>(Endpoint.class);
+        private final Map<Endpoint, LongAdder> errors = new EnumMap<>(Endpoint.class);
+        private Duration elapsed;
+
+        private Result(Endpoint[] endpoints) {
+            for (Endpoint endpoint : endpoints) {
+                latencies.put(endpoint, new ConcurrentHistogram(3));
+                errors.put(endpoint, new LongAdder());
+            }
+        }
+
+        private void record(Endpoint endpoint, long micros, boolean ok) {
+            latencies.get(endpoint).recordValue(Math.max(1, micros));
+            if (!ok) {
+                errors.get(endpoint).increment();
+            }
+        }
+
+        Map<Endpoint, Histogram> getLatencies() {
+            return latencies;
+        }
+
+        long getErrors(Endpoint endpoint) {
+            return errors.get(endpoint).sum();
+        }
+
+        Duration getElapsed() {
+            return elapsed;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.camila.crud_spring.loadtest;
+
+import com.camila.crud_spring.CrudSpringApplication;
+import com.camila.crud_spring.repository.CourseRepository;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the read endpoints of a scenario at high concurrency twice against one instance, first
+ * through the servlet controllers under {@code /api} and then through their R2DBC mirrors under
+ * {@code /api/reactive}, and writes both reports plus a side-by-side {@code comparison.txt} to
+ * {@code target/load-test/reactive}. Only the error budget is enforced.
+ */
+@DisplayName("Reactive Comparison Load Test")
+class ReactiveComparisonLoadTest {
+
+    private static final String SCENARIO = System.getProperty("loadtest.reactive.scenario", "browse");
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.reactive.concurrency", 400);
+    private static final Duration WARMUP = DurationStyle.detectAndParse(System.getProperty("loadtest.warmup", "10s"));
+    private static final Duration DURATION = DurationStyle.detectAndParse(System.getProperty("loadtest.duration", "30s"));
+    private static final Path REPORT_DIRECTORY = Path.of(System.getProperty("loadtest.report-dir", "target/load-test"), "reactive");
+
+    @Test
+    @DisplayName("Should compare servlet and reactive reads under the same load")
+    void shouldCompareServletAndReactiveReads() throws Exception {
+        LoadScenario scenario = LoadScenario.fromString(SCENARIO);
+        Map<Endpoint, Integer> reads = new EnumMap<>(Endpoint.class);
+        scenario.getWeights().forEach((endpoint, weight) -> {
+            if (endpoint.isRead()) {
+                reads.put(endpoint, weight);
+            }
+        });
+
+        List<String> violations = new ArrayList<>();
+        StringBuilder comparison = new StringBuilder("Reads of scenario %s, %d concurrent clients%n".formatted(scenario, CONCURRENCY));
+        comparison.append("%-10s %9s %9s %8s %8s %8s %8s%n".formatted("api", "requests", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms"));
+
+        try (ConfigurableApplicationContext context = start()) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            CourseApiClient servlet = CourseApiClient.seed(port, context.getBean(CourseRepository.class));
+            Map<String, CourseApiClient> apis = new LinkedHashMap<>();
+            apis.put("servlet", servlet);
+            apis.put("reactive", servlet.readingFrom(CourseApiClient.REACTIVE_PREFIX));
+
+            for (Map.Entry<String, CourseApiClient> api : apis.entrySet()) {
+                LoadTestRunner runner = new LoadTestRunner(reads, CONCURRENCY, api.getValue());
+                runner.run(WARMUP);
+                LoadTestRunner.Result result = runner.run(DURATION);
+                LoadTestReport report = new LoadTestReport(scenario, result);
+
+                report.write(REPORT_DIRECTORY.resolve(api.getKey()));
+                System.out.println(report.summary());
+                violations.addAll(report.violations(
+                        new LoadScenario.LatencyBudget(Integer.MAX_VALUE, Integer.MAX_VALUE, scenario.getBudget().errorRate())));
+                comparison.append(row(api.getKey(), result));
+            }
+        }
+
+        Files.writeString(REPORT_DIRECTORY.resolve("comparison.txt"), comparison);
+        System.out.println(comparison);
+        assertTrue(violations.isEmpty(), () -> "Budget exceeded:\n" + String.join("\n", violations));
+    }
+
+    private static ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(CrudSpringApplication.class)
+                .run("--spring.profiles.active=dev",
+                        "--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:reactive-comparison;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                        "--spring.r2dbc.url=r2dbc:h2:mem:///reactive-comparison?options=DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.format_sql=false",
+                        "--logging.level.com.camila.crud_spring=WARN",
+                        "--logging.level.org.springframework.web=WARN");
+    }
+
+    private static String row(String api, LoadTestRunner.Result result) {
+        Histogram total = new Histogram(3);
+        result.getLatencies().values().forEach(total::add);
+        double seconds = result.getElapsed().toNanos() / 1_000_000_000.0;
+        return "%-10s %9d %9.1f %8.2f %8.2f %8.2f %8.2f%n".formatted(api, total.getTotalCount(), total.getTotalCount() / seconds,
+                total.getValueAtPercentile(50) / 1000.0, total.getValueAtPercentile(95) / 1000.0,
+                total.getValueAtPercentile(99) / 1000.0, total.getMaxValue() / 1000.0);
+    }
+}
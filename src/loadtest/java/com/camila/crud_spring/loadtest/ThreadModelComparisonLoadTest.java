@@ -0,0 +1,89 @@
+package com.camila.crud_spring.loadtest;
+
+import com.camila.crud_spring.CrudSpringApplication;
+import com.camila.crud_spring.repository.CourseRepository;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the same scenario at high concurrency against two instances of the application, one on
+ * Tomcat's platform-thread pool and one with {@code spring.threads.virtual.enabled=true}, and
+ * writes both reports plus a side-by-side {@code comparison.txt} to {@code target/load-test/threads}.
+ * Only the error budget is enforced; the latency numbers are for comparison.
+ */
+@DisplayName("Thread Model Comparison Load Test")
+class ThreadModelComparisonLoadTest {
+
+    private static final String SCENARIO = System.getProperty("loadtest.threads.scenario", "browse");
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.threads.concurrency", 400);
+    private static final Duration WARMUP = DurationStyle.detectAndParse(System.getProperty("loadtest.warmup", "10s"));
+    private static final Duration DURATION = DurationStyle.detectAndParse(System.getProperty("loadtest.duration", "30s"));
+    private static final Path REPORT_DIRECTORY = Path.of(System.getProperty("loadtest.report-dir", "target/load-test"), "threads");
+
+    @Test
+    @DisplayName("Should compare platform and virtual threads under the same load")
+    void shouldComparePlatformAndVirtualThreads() throws Exception {
+        LoadScenario scenario = LoadScenario.fromString(SCENARIO);
+        List<String> violations = new ArrayList<>();
+        StringBuilder comparison = new StringBuilder("Scenario %s, %d concurrent clients%n".formatted(scenario, CONCURRENCY));
+        comparison.append("%-10s %9s %9s %8s %8s %8s %8s%n".formatted("threads", "requests", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms"));
+
+        for (boolean virtual : new boolean[]{false, true}) {
+            String mode = virtual ? "virtual" : "platform";
+            try (ConfigurableApplicationContext context = start(mode, virtual)) {
+                int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+                CourseApiClient apiClient = CourseApiClient.seed(port, context.getBean(CourseRepository.class));
+
+                LoadTestRunner runner = new LoadTestRunner(scenario.getWeights(), CONCURRENCY, apiClient);
+                runner.run(WARMUP);
+                LoadTestRunner.Result result = runner.run(DURATION);
+                LoadTestReport report = new LoadTestReport(scenario, result);
+
+                report.write(REPORT_DIRECTORY.resolve(mode));
+                System.out.println(report.summary());
+                violations.addAll(report.violations(
+                        new LoadScenario.LatencyBudget(Integer.MAX_VALUE, Integer.MAX_VALUE, scenario.getBudget().errorRate())));
+                comparison.append(row(mode, result));
+            }
+        }
+
+        Files.writeString(REPORT_DIRECTORY.resolve("comparison.txt"), comparison);
+        System.out.println(comparison);
+        assertTrue(violations.isEmpty(), () -> "Budget exceeded:\n" + String.join("\n", violations));
+    }
+
+    private static ConfigurableApplicationContext start(String mode, boolean virtual) {
+        return new SpringApplicationBuilder(CrudSpringApplication.class)
+                .run("--spring.profiles.active=dev",
+                        "--server.port=0",
+                        "--spring.threads.virtual.enabled=" + virtual,
+                        "--spring.datasource.url=jdbc:h2:mem:threads-" + mode + ";DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                        "--spring.r2dbc.url=r2dbc:h2:mem:///threads-" + mode + "?options=DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.format_sql=false",
+                        "--logging.level.com.camila.crud_spring=WARN",
+                        "--logging.level.org.springframework.web=WARN");
+    }
+
+    private static String row(String mode, LoadTestRunner.Result result) {
+        Histogram total = new Histogram(3);
+        result.getLatencies().values().forEach(total::add);
+        double seconds = result.getElapsed().toNanos() / 1_000_000_000.0;
+        return "%-10s %9d %9.1f %8.2f %8.2f %8.2f %8.2f%n".formatted(mode, total.getTotalCount(), total.getTotalCount() / seconds,
+                total.getValueAtPercentile(50) / 1000.0, total.getValueAtPercentile(95) / 1000.0,
+                total.getValueAtPercentile(99) / 1000.0, total.getMaxValue() / 1000.0);
+    }
+}
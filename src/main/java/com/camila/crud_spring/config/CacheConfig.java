@@ -0,0 +1,28 @@
+package com.camila.crud_spring.config;
+
+import com.camila.crud_spring.service.CourseResponseCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    @Bean
+    public CacheManager cacheManager(@Value("${app.response-cache.spec}") String spec) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(
+                CourseResponseCache.ACTIVE_COURSE_WITH_LESSONS,
+                CourseResponseCache.COURSE_WITH_LESSONS);
+        cacheManager.setCacheSpecification(spec);
+        cacheManager.setAllowNullValues(false);
+
+        // Evictions issued inside a write transaction are applied after commit, so a concurrent
+        // read cannot re-cache the old state between the eviction and the commit.
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
@@ -0,0 +1,21 @@
+package com.camila.crud_spring.config;
+
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+@Configuration
+@Profile("dev")
+public class FlywayConfig {
+
+    // The dev database is disposable and reseeded on every start, so it is rebuilt from the
+    // migrations each time, as ddl-auto=create used to do.
+    @Bean
+    public FlywayMigrationStrategy cleanMigrateStrategy() {
+        return flyway -> {
+            flyway.clean();
+            flyway.migrate();
+        };
+    }
+}
@@ -0,0 +1,33 @@
+package com.camila.crud_spring.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+/**
+ * Non-blocking access to the same database for the read-only {@code /api/reactive} endpoints.
+ * Writes stay on JPA, so no reactive transaction manager is registered.
+ * <p>
+ * Boot's JDBC auto-configuration backs off as soon as a {@link ConnectionFactory} exists,
+ * so the Hikari pool used by JPA is declared here from the usual {@code spring.datasource.*} keys.
+ */
+@Configuration
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class R2dbcConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public DatabaseClient databaseClient(ConnectionFactory connectionFactory) {
+        return DatabaseClient.create(connectionFactory);
+    }
+}
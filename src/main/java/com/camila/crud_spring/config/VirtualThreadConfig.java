@@ -0,0 +1,62 @@
+package com.camila.crud_spring.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Active when {@code spring.threads.virtual.enabled=true}. Tomcat and the application task executor
+ * then run on virtual threads (configured by Spring Boot); this adds the connection limit and
+ * pinning detection that mode needs.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    @Bean
+    public static BeanPostProcessor connectionLimitingDataSourcePostProcessor(Environment environment) {
+        int maxConnections = environment.getProperty("app.datasource.max-concurrent-connections", Integer.class, 10);
+        Duration acquireTimeout = environment.getProperty("app.datasource.acquire-timeout", Duration.class, Duration.ofSeconds(30));
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ConnectionLimitingDataSource)) {
+                    return new ConnectionLimitingDataSource(dataSource, maxConnections, acquireTimeout);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder connectionLimitMetrics(ObjectProvider<DataSource> dataSources) {
+        return registry -> dataSources.orderedStream()
+                .filter(ConnectionLimitingDataSource.class::isInstance)
+                .map(ConnectionLimitingDataSource.class::cast)
+                .forEach(dataSource -> {
+                    Gauge.builder("app.datasource.connections.active", dataSource, ConnectionLimitingDataSource::getActiveConnections)
+                            .description("Connections checked out through the concurrency limit")
+                            .register(registry);
+                    Gauge.builder("app.datasource.connections.waiting", dataSource, ConnectionLimitingDataSource::getWaitingThreads)
+                            .description("Threads waiting for a connection permit")
+                            .register(registry);
+                });
+    }
+
+    @Bean
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+            @Value("${app.virtual-threads.pinned-threshold:20ms}") Duration threshold) {
+        return new VirtualThreadPinningMonitor(threshold);
+    }
+}
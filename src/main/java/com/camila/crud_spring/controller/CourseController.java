@@ -1,25 +1,59 @@
 package com.camila.crud_spring.controller;
 
+import com.camila.crud_spring.dto.BatchResultDTO;
 import com.camila.crud_spring.dto.CourseDTO;
+import com.camila.crud_spring.dto.CourseStatusUpdateDTO;
 import com.camila.crud_spring.dto.CourseWithLessonRequestDTO;
 import com.camila.crud_spring.dto.CourseWithLessonsResponseDTO;
+import com.camila.crud_spring.dto.CursorPageDTO;
+import com.camila.crud_spring.dto.DeleteResultDTO;
+import com.camila.crud_spring.dto.ImportSummaryDTO;
+import com.camila.crud_spring.dto.SliceDTO;
+import com.camila.crud_spring.dto.StatusUpdateResultDTO;
 import com.camila.crud_spring.dto.mapper.CourseMapper;
+import com.camila.crud_spring.dto.mapper.CursorMapper;
+import com.camila.crud_spring.dto.mapper.ETagMapper;
+import com.camila.crud_spring.dto.mapper.FieldsMapper;
 import com.camila.crud_spring.dto.mapper.LessonMapper;
+import com.camila.crud_spring.enums.Category;
+import com.camila.crud_spring.enums.CountMode;
+import com.camila.crud_spring.enums.ExportFormat;
+import com.camila.crud_spring.enums.Status;
 import com.camila.crud_spring.model.Course;
+import com.camila.crud_spring.service.CourseExportService;
+import com.camila.crud_spring.service.CourseImportService;
 import com.camila.crud_spring.service.CourseService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
 
 @Validated
 @RestController
@@ -27,9 +61,17 @@ import java.net.URI;
 @AllArgsConstructor
 public class CourseController {
 
+    private static final String NDJSON = "application/x-ndjson";
+
     private final CourseService courseService;
     private final CourseMapper courseMapper;
     private final LessonMapper lessonMapper;
+    private final CursorMapper cursorMapper;
+    private final ETagMapper eTagMapper;
+    private final FieldsMapper fieldsMapper;
+    private final CourseImportService courseImportService;
+    private final CourseExportService courseExportService;
+    private final ObjectMapper objectMapper;
 
     @GetMapping
     public ResponseEntity<Page<CourseDTO>> list(
@@ -41,14 +83,72 @@ public class CourseController {
         Sort.Direction sortDirection = Sort.Direction.fromString(direction);
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
 
-        Page<CourseDTO> courseDTOs = courseService.listActiveCourses(pageable)
-                .map(courseMapper::toCourseDTO);
+        Page<CourseDTO> courseDTOs = courseService.listActiveCourses(pageable);
 
         return courseDTOs.isEmpty()
                 ? ResponseEntity.noContent().build()
                 : ResponseEntity.ok(courseDTOs);
     }
 
+    @GetMapping(params = "fields")
+    public ResponseEntity<Page<Map<String, Object>>> listFields(
+            @RequestParam String fields,
+            @RequestParam(required = false) String count,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "name") String sortBy,
+            @RequestParam(defaultValue = "ASC") String direction) {
+
+        fieldsMapper.requireOffsetPaging(count, after);
+
+        Sort.Direction sortDirection = Sort.Direction.fromString(direction);
+        Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
+
+        Page<Map<String, Object>> courses = courseService.listActiveCourses(pageable, fieldsMapper.toCourseFields(fields));
+
+        return courses.isEmpty()
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.ok(courses);
+    }
+
+    @GetMapping(params = {"count", "!after", "!fields"})
+    public ResponseEntity<SliceDTO<CourseDTO>> listSlice(
+            @RequestParam String count,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "name") String sortBy,
+            @RequestParam(defaultValue = "ASC") String direction) {
+
+        CountMode countMode = CountMode.fromString(count);
+        Sort.Direction sortDirection = Sort.Direction.fromString(direction);
+        Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
+
+        Slice<CourseDTO> courseDTOs = courseService.sliceActiveCourses(pageable);
+
+        return courseDTOs.isEmpty()
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.ok(SliceDTO.of(courseDTOs, courseService.countActiveCourses(countMode)));
+    }
+
+    @GetMapping(params = {"after", "!fields"})
+    public ResponseEntity<CursorPageDTO<CourseDTO>> listByCursor(
+            @RequestParam String after,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "name") String sortBy,
+            @RequestParam(defaultValue = "ASC") String direction) {
+
+        Sort sort = cursorMapper.toSort(sortBy, Sort.Direction.fromString(direction));
+        ScrollPosition position = cursorMapper.toScrollPosition(after, sortBy);
+
+        Window<CourseDTO> courseDTOs = courseService.scrollActiveCourses(position, sort, size)
+                .map(courseMapper::toCourseDTO);
+
+        return courseDTOs.isEmpty()
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.ok(cursorMapper.toCursorPage(courseDTOs, sortBy));
+    }
+
     @GetMapping("/all")
     public ResponseEntity<Page<CourseDTO>> listAll(
             @RequestParam(defaultValue = "0") int page,
@@ -59,18 +159,147 @@ public class CourseController {
         Sort.Direction sortDirection = Sort.Direction.fromString(direction);
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
 
-        Page<CourseDTO> courseDTOs = courseService.listAllCourses(pageable)
+        Page<CourseDTO> courseDTOs = courseService.listAllCourses(pageable);
+
+        return courseDTOs.isEmpty()
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.ok(courseDTOs);
+    }
+
+    @GetMapping(value = "/all", params = "fields")
+    public ResponseEntity<Page<Map<String, Object>>> listAllFields(
+            @RequestParam String fields,
+            @RequestParam(required = false) String count,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "name") String sortBy,
+            @RequestParam(defaultValue = "ASC") String direction) {
+
+        fieldsMapper.requireOffsetPaging(count, after);
+
+        Sort.Direction sortDirection = Sort.Direction.fromString(direction);
+        Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
+
+        Page<Map<String, Object>> courses = courseService.listAllCourses(pageable, fieldsMapper.toCourseFields(fields));
+
+        return courses.isEmpty()
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.ok(courses);
+    }
+
+    @GetMapping(value = "/all", params = {"count", "!after", "!fields"})
+    public ResponseEntity<SliceDTO<CourseDTO>> listAllSlice(
+            @RequestParam String count,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "name") String sortBy,
+            @RequestParam(defaultValue = "ASC") String direction) {
+
+        CountMode countMode = CountMode.fromString(count);
+        Sort.Direction sortDirection = Sort.Direction.fromString(direction);
+        Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
+
+        Slice<CourseDTO> courseDTOs = courseService.sliceAllCourses(pageable);
+
+        return courseDTOs.isEmpty()
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.ok(SliceDTO.of(courseDTOs, courseService.countAllCourses(countMode)));
+    }
+
+    @GetMapping(value = "/all", params = {"after", "!fields"})
+    public ResponseEntity<CursorPageDTO<CourseDTO>> listAllByCursor(
+            @RequestParam String after,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "name") String sortBy,
+            @RequestParam(defaultValue = "ASC") String direction) {
+
+        Sort sort = cursorMapper.toSort(sortBy, Sort.Direction.fromString(direction));
+        ScrollPosition position = cursorMapper.toScrollPosition(after, sortBy);
+
+        Window<CourseDTO> courseDTOs = courseService.scrollAllCourses(position, sort, size)
                 .map(courseMapper::toCourseDTO);
 
+        return courseDTOs.isEmpty()
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.ok(cursorMapper.toCursorPage(courseDTOs, sortBy));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<Page<CourseDTO>> search(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String name,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "name") String sortBy,
+            @RequestParam(defaultValue = "ASC") String direction) {
+
+        Sort.Direction sortDirection = Sort.Direction.fromString(direction);
+        Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
+
+        Page<CourseDTO> courseDTOs = courseService.searchCourses(
+                status == null ? null : Status.fromString(status),
+                category == null ? null : Category.fromString(category),
+                name,
+                pageable);
+
         return courseDTOs.isEmpty()
                 ? ResponseEntity.noContent().build()
                 : ResponseEntity.ok(courseDTOs);
     }
 
+    @GetMapping(value = "/search", params = "fields")
+    public ResponseEntity<Page<Map<String, Object>>> searchFields(
+            @RequestParam String fields,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String name,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "name") String sortBy,
+            @RequestParam(defaultValue = "ASC") String direction) {
+
+        Sort.Direction sortDirection = Sort.Direction.fromString(direction);
+        Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
+
+        Page<Map<String, Object>> courses = courseService.searchCourses(
+                status == null ? null : Status.fromString(status),
+                category == null ? null : Category.fromString(category),
+                name,
+                pageable,
+                fieldsMapper.toCourseFields(fields));
+
+        return courses.isEmpty()
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.ok(courses);
+    }
+
+    @GetMapping("/batch")
+    public ResponseEntity<BatchResultDTO<CourseDTO>> getByIds(
+            @RequestParam @NotEmpty @Size(max = 100) List<@NotNull @Positive Long> ids) {
+
+        return ResponseEntity.ok(courseService.findActiveByIds(ids));
+    }
+
+    @GetMapping("/batch/with-lessons")
+    public ResponseEntity<BatchResultDTO<CourseWithLessonsResponseDTO>> getByIdsWithLessons(
+            @RequestParam @NotEmpty @Size(max = 100) List<@NotNull @Positive Long> ids) {
+
+        return ResponseEntity.ok(courseService.findActiveByIdsWithLessons(ids));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<CourseDTO> getById(@PathVariable @NotNull @Positive Long id) {
-        Course course = courseService.findActiveById(id);
-        return ResponseEntity.ok(courseMapper.toCourseDTO(course));
+        return ResponseEntity.ok(courseService.findActiveById(id));
+    }
+
+    @GetMapping(value = "/{id}", params = "fields")
+    public ResponseEntity<Map<String, Object>> getFieldsById(
+            @PathVariable @NotNull @Positive Long id,
+            @RequestParam String fields) {
+
+        return ResponseEntity.ok(courseService.findActiveById(id, fieldsMapper.toCourseFields(fields)));
     }
 
     @PostMapping
@@ -83,9 +312,42 @@ public class CourseController {
                 .body(courseMapper.toCourseWithLessonsResponseDTO(savedCourse));
     }
 
+    @GetMapping("/export")
+    public void exportCourses(
+            @RequestParam(defaultValue = "ndjson") String format,
+            HttpServletResponse response) throws IOException {
+
+        ExportFormat exportFormat = ExportFormat.fromString(format);
+        response.setContentType(exportFormat == ExportFormat.JSON ? MediaType.APPLICATION_JSON_VALUE : NDJSON);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        courseExportService.exportCourses(exportFormat, response.getOutputStream());
+    }
+
+    @PostMapping(value = "/import", consumes = {NDJSON, MediaType.TEXT_PLAIN_VALUE}, produces = NDJSON)
+    public void importCourses(InputStream body, HttpServletResponse response) throws IOException {
+        response.setContentType(NDJSON);
+
+        try (SequenceWriter results = objectMapper.writer()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withRootValueSeparator("\n")
+                .writeValues(response.getOutputStream())) {
+
+            ImportSummaryDTO summary = courseImportService.importCourses(body, result -> {
+                try {
+                    results.write(result);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+            results.write(summary);
+        }
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<CourseWithLessonsResponseDTO> update(
             @PathVariable @NotNull @Positive Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestBody @Valid CourseWithLessonRequestDTO courseDTO) {
 
         var course = courseMapper.toCourse(courseDTO);
@@ -93,9 +355,18 @@ public class CourseController {
             return ResponseEntity.badRequest().build();
         }
 
-        Course updatedCourse = courseService.updateCourse(id, course);
+        Course updatedCourse = courseService.updateCourse(id, course, eTagMapper.toExpectedVersion(ifMatch));
 
-        return ResponseEntity.ok(courseMapper.toCourseWithLessonsResponseDTO(updatedCourse));
+        return ResponseEntity.ok()
+                .eTag(eTagMapper.toETag(updatedCourse.getVersion()))
+                .body(courseMapper.toCourseWithLessonsResponseDTO(updatedCourse));
+    }
+
+    @DeleteMapping("/hard")
+    public ResponseEntity<DeleteResultDTO> deleteAll(
+            @RequestParam @NotEmpty @Size(max = 1000) List<@NotNull @Positive Long> ids) {
+
+        return ResponseEntity.ok(new DeleteResultDTO(courseService.hardDeleteCourses(ids)));
     }
 
     @DeleteMapping("/{id}/hard")
@@ -110,6 +381,14 @@ public class CourseController {
         return ResponseEntity.noContent().build();
     }
 
+    @PatchMapping("/status")
+    public ResponseEntity<StatusUpdateResultDTO> updateStatus(@RequestBody @Valid CourseStatusUpdateDTO statusUpdateDTO) {
+        int updated = courseService.updateStatus(
+                statusUpdateDTO.ids(), statusUpdateDTO.category(), statusUpdateDTO.status());
+
+        return ResponseEntity.ok(new StatusUpdateResultDTO(updated));
+    }
+
     @GetMapping("/with-lessons")
     public ResponseEntity<Page<CourseWithLessonsResponseDTO>> listWithLessons(
             @RequestParam(defaultValue = "0") int page,
@@ -135,17 +414,57 @@ public class CourseController {
                 : ResponseEntity.ok(coursesWithLessons);
     }
 
+    @GetMapping(value = "/with-lessons", params = "fields")
+    public ResponseEntity<Page<Map<String, Object>>> listFieldsWithLessons(
+            @RequestParam String fields,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "name") String sortBy,
+            @RequestParam(defaultValue = "ASC") String direction) {
+
+        Sort.Direction sortDirection = Sort.Direction.fromString(direction);
+        Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
+
+        Page<Map<String, Object>> coursesWithLessons = courseService.listActiveCoursesWithLessons(
+                pageable, fieldsMapper.toCourseWithLessonsFields(fields));
+
+        return coursesWithLessons.isEmpty()
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.ok(coursesWithLessons);
+    }
+
+    // If-None-Match is answered from the course version alone, so the lessons are only loaded when
+    // the client's copy is stale. A cached body older than that version (cached while the write that
+    // moved it was committing) is rebuilt, so the ETag never claims a newer state than the body has.
     @GetMapping("/{id}/with-lessons")
-    public ResponseEntity<CourseWithLessonsResponseDTO> getByIdWithLessons(@PathVariable @NotNull @Positive Long id) {
-        Course course = courseService.findActiveByIdWithLessons(id);
+    public ResponseEntity<CourseWithLessonsResponseDTO> getByIdWithLessons(
+            @PathVariable @NotNull @Positive Long id, WebRequest request) {
 
-        var lessonDTOs = course.getLessons().stream()
-                .map(lessonMapper::toLessonDTO)
-                .toList();
+        Long version = courseService.findActiveCourseVersion(id);
+        if (request.checkNotModified(eTagMapper.toETag(version))) {
+            return null;
+        }
 
-        var courseDTO = courseMapper.toCourseDTO(course);
-        var courseWithLessons = new CourseWithLessonsResponseDTO(courseDTO, lessonDTOs);
+        var course = courseService.getActiveCourseWithLessons(id);
+        if (course.version() < version) {
+            course = courseService.reloadActiveCourseWithLessons(id);
+        }
+        return ResponseEntity.ok().eTag(eTagMapper.toETag(version)).body(course);
+    }
 
-        return ResponseEntity.ok(courseWithLessons);
+    @GetMapping("/all/{id}/with-lessons")
+    public ResponseEntity<CourseWithLessonsResponseDTO> getAnyByIdWithLessons(
+            @PathVariable @NotNull @Positive Long id, WebRequest request) {
+
+        Long version = courseService.findCourseVersion(id);
+        if (request.checkNotModified(eTagMapper.toETag(version))) {
+            return null;
+        }
+
+        var course = courseService.getCourseWithLessons(id);
+        if (course.version() < version) {
+            course = courseService.reloadCourseWithLessons(id);
+        }
+        return ResponseEntity.ok().eTag(eTagMapper.toETag(version)).body(course);
     }
 }
@@ -1,22 +1,41 @@
 package com.camila.crud_spring.controller;
 
+import com.camila.crud_spring.dto.BatchResultDTO;
+import com.camila.crud_spring.dto.CursorPageDTO;
 import com.camila.crud_spring.dto.LessonDTO;
+import com.camila.crud_spring.dto.SliceDTO;
+import com.camila.crud_spring.dto.mapper.CursorMapper;
+import com.camila.crud_spring.dto.mapper.ETagMapper;
+import com.camila.crud_spring.dto.mapper.FieldsMapper;
 import com.camila.crud_spring.dto.mapper.LessonMapper;
+import com.camila.crud_spring.enums.CountMode;
 import com.camila.crud_spring.model.Lesson;
 import com.camila.crud_spring.service.LessonService;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.net.URI;
+import java.util.List;
+import java.util.Map;
 
+@Validated
 @RestController
 @RequestMapping("/api/lessons")
 @AllArgsConstructor
@@ -24,6 +43,9 @@ public class LessonController {
 
     private final LessonService lessonService;
     private final LessonMapper lessonMapper;
+    private final CursorMapper cursorMapper;
+    private final ETagMapper eTagMapper;
+    private final FieldsMapper fieldsMapper;
 
     @GetMapping
     public ResponseEntity<Page<LessonDTO>> list(
@@ -35,14 +57,72 @@ public class LessonController {
         Sort.Direction sortDirection = Sort.Direction.fromString(direction);
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
 
-        Page<LessonDTO> lessonDTOs = lessonService.listAllLessons(pageable)
-                .map(lessonMapper::toLessonDTO);
+        Page<LessonDTO> lessonDTOs = lessonService.listAllLessons(pageable);
 
         return lessonDTOs.isEmpty()
                 ? ResponseEntity.noContent().build()
                 : ResponseEntity.ok(lessonDTOs);
     }
 
+    @GetMapping(params = "fields")
+    public ResponseEntity<Page<Map<String, Object>>> listFields(
+            @RequestParam String fields,
+            @RequestParam(required = false) String count,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "name") String sortBy,
+            @RequestParam(defaultValue = "ASC") String direction) {
+
+        fieldsMapper.requireOffsetPaging(count, after);
+
+        Sort.Direction sortDirection = Sort.Direction.fromString(direction);
+        Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
+
+        Page<Map<String, Object>> lessons = lessonService.listAllLessons(pageable, fieldsMapper.toLessonFields(fields));
+
+        return lessons.isEmpty()
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.ok(lessons);
+    }
+
+    @GetMapping(params = {"count", "!after", "!fields"})
+    public ResponseEntity<SliceDTO<LessonDTO>> listSlice(
+            @RequestParam String count,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "name") String sortBy,
+            @RequestParam(defaultValue = "ASC") String direction) {
+
+        CountMode countMode = CountMode.fromString(count);
+        Sort.Direction sortDirection = Sort.Direction.fromString(direction);
+        Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
+
+        Slice<LessonDTO> lessonDTOs = lessonService.sliceAllLessons(pageable);
+
+        return lessonDTOs.isEmpty()
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.ok(SliceDTO.of(lessonDTOs, lessonService.countAllLessons(countMode)));
+    }
+
+    @GetMapping(params = {"after", "!fields"})
+    public ResponseEntity<CursorPageDTO<LessonDTO>> listByCursor(
+            @RequestParam String after,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "name") String sortBy,
+            @RequestParam(defaultValue = "ASC") String direction) {
+
+        Sort sort = cursorMapper.toSort(sortBy, Sort.Direction.fromString(direction));
+        ScrollPosition position = cursorMapper.toScrollPosition(after, sortBy);
+
+        Window<LessonDTO> lessonDTOs = lessonService.scrollAllLessons(position, sort, size)
+                .map(lessonMapper::toLessonDTO);
+
+        return lessonDTOs.isEmpty()
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.ok(cursorMapper.toCursorPage(lessonDTOs, sortBy));
+    }
+
     @GetMapping("/course/{courseId}")
     public ResponseEntity<Page<LessonDTO>> listByCourse(
             @PathVariable @NotNull @Positive Long courseId,
@@ -54,18 +134,113 @@ public class LessonController {
         Sort.Direction sortDirection = Sort.Direction.fromString(direction);
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
 
-        Page<LessonDTO> lessonDTOs = lessonService.listLessonsByCourse(courseId, pageable)
+        Page<LessonDTO> lessonDTOs = lessonService.listLessonsByCourse(courseId, pageable);
+
+        return lessonDTOs.isEmpty()
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.ok(lessonDTOs);
+    }
+
+    @GetMapping(value = "/course/{courseId}", params = "fields")
+    public ResponseEntity<Page<Map<String, Object>>> listFieldsByCourse(
+            @PathVariable @NotNull @Positive Long courseId,
+            @RequestParam String fields,
+            @RequestParam(required = false) String count,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "name") String sortBy,
+            @RequestParam(defaultValue = "ASC") String direction) {
+
+        fieldsMapper.requireOffsetPaging(count, after);
+
+        Sort.Direction sortDirection = Sort.Direction.fromString(direction);
+        Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
+
+        Page<Map<String, Object>> lessons = lessonService.listLessonsByCourse(
+                courseId, pageable, fieldsMapper.toLessonFields(fields));
+
+        return lessons.isEmpty()
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.ok(lessons);
+    }
+
+    @GetMapping(value = "/course/{courseId}", params = {"count", "!after", "!fields"})
+    public ResponseEntity<SliceDTO<LessonDTO>> listSliceByCourse(
+            @PathVariable @NotNull @Positive Long courseId,
+            @RequestParam String count,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "name") String sortBy,
+            @RequestParam(defaultValue = "ASC") String direction) {
+
+        CountMode countMode = CountMode.fromString(count);
+        Sort.Direction sortDirection = Sort.Direction.fromString(direction);
+        Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
+
+        Slice<LessonDTO> lessonDTOs = lessonService.sliceLessonsByCourse(courseId, pageable);
+
+        return lessonDTOs.isEmpty()
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.ok(SliceDTO.of(lessonDTOs, lessonService.countLessonsByCourse(courseId, countMode)));
+    }
+
+    @GetMapping(value = "/course/{courseId}", params = {"after", "!fields"})
+    public ResponseEntity<CursorPageDTO<LessonDTO>> listByCourseAndCursor(
+            @PathVariable @NotNull @Positive Long courseId,
+            @RequestParam String after,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "name") String sortBy,
+            @RequestParam(defaultValue = "ASC") String direction) {
+
+        Sort sort = cursorMapper.toSort(sortBy, Sort.Direction.fromString(direction));
+        ScrollPosition position = cursorMapper.toScrollPosition(after, sortBy);
+
+        Window<LessonDTO> lessonDTOs = lessonService.scrollLessonsByCourse(courseId, position, sort, size)
                 .map(lessonMapper::toLessonDTO);
 
+        return lessonDTOs.isEmpty()
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.ok(cursorMapper.toCursorPage(lessonDTOs, sortBy));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<Page<LessonDTO>> search(
+            @RequestParam @NotBlank String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+
+        Page<LessonDTO> lessonDTOs = lessonService.searchLessons(q, PageRequest.of(page, size));
+
         return lessonDTOs.isEmpty()
                 ? ResponseEntity.noContent().build()
                 : ResponseEntity.ok(lessonDTOs);
     }
 
+    @GetMapping("/batch")
+    public ResponseEntity<BatchResultDTO<LessonDTO>> getByIds(
+            @RequestParam @NotEmpty @Size(max = 100) List<@NotNull @Positive Long> ids) {
+
+        return ResponseEntity.ok(lessonService.findByIds(ids));
+    }
+
+    // The version is read before the body, so the ETag never claims a newer state than the body has.
     @GetMapping("/{id}")
-    public ResponseEntity<LessonDTO> getById(@PathVariable @NotNull @Positive Long id) {
-        Lesson lesson = lessonService.findById(id);
-        return ResponseEntity.ok(lessonMapper.toLessonDTO(lesson));
+    public ResponseEntity<LessonDTO> getById(@PathVariable @NotNull @Positive Long id, WebRequest request) {
+        String eTag = eTagMapper.toETag(lessonService.findVersionById(id));
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+
+        return ResponseEntity.ok().eTag(eTag).body(lessonService.findById(id));
+    }
+
+    @GetMapping(value = "/{id}", params = "fields")
+    public ResponseEntity<Map<String, Object>> getFieldsById(
+            @PathVariable @NotNull @Positive Long id,
+            @RequestParam String fields) {
+
+        return ResponseEntity.ok(lessonService.findById(id, fieldsMapper.toLessonFields(fields)));
     }
 
     @PostMapping("/course/{courseId}")
@@ -83,6 +258,7 @@ public class LessonController {
     @PutMapping("/{id}")
     public ResponseEntity<LessonDTO> update(
             @PathVariable @NotNull @Positive Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestBody @Valid LessonDTO lessonDTO) {
 
         var lesson = lessonMapper.toLesson(lessonDTO);
@@ -90,8 +266,10 @@ public class LessonController {
             return ResponseEntity.badRequest().build();
         }
 
-        Lesson updatedLesson = lessonService.updateLesson(id, lesson);
-        return ResponseEntity.ok(lessonMapper.toLessonDTO(updatedLesson));
+        Lesson updatedLesson = lessonService.updateLesson(id, lesson, eTagMapper.toExpectedVersion(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(eTagMapper.toETag(updatedLesson.getVersion()))
+                .body(lessonMapper.toLessonDTO(updatedLesson));
     }
 
     @DeleteMapping("/{id}")
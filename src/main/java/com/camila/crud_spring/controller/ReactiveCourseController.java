@@ -0,0 +1,178 @@
+package com.camila.crud_spring.controller;
+
+import com.camila.crud_spring.dto.CourseDTO;
+import com.camila.crud_spring.dto.CourseWithLessonsResponseDTO;
+import com.camila.crud_spring.dto.CursorPageDTO;
+import com.camila.crud_spring.dto.SliceDTO;
+import com.camila.crud_spring.dto.mapper.CursorMapper;
+import com.camila.crud_spring.enums.CountMode;
+import com.camila.crud_spring.service.ReactiveCourseService;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking mirror of the {@link CourseController} reads, served from R2DBC.
+ */
+@Validated
+@RestController
+@RequestMapping("/api/reactive/courses")
+@AllArgsConstructor
+public class ReactiveCourseController {
+
+    private static final String NDJSON = "application/x-ndjson";
+
+    private final ReactiveCourseService courseService;
+    private final CursorMapper cursorMapper;
+
+    @GetMapping
+    public Mono<ResponseEntity<Page<CourseDTO>>> list(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "name") String sortBy,
+            @RequestParam(defaultValue = "ASC") String direction) {
+
+        Sort.Direction sortDirection = Sort.Direction.fromString(direction);
+        Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
+
+        return courseService.listActiveCourses(pageable).map(ReactiveCourseController::okOrNoContent);
+    }
+
+    @GetMapping(params = {"count", "!after"})
+    public Mono<ResponseEntity<SliceDTO<CourseDTO>>> listSlice(
+            @RequestParam String count,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "name") String sortBy,
+            @RequestParam(defaultValue = "ASC") String direction) {
+
+        CountMode countMode = CountMode.fromString(count);
+        Sort.Direction sortDirection = Sort.Direction.fromString(direction);
+        Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
+
+        return courseService.sliceActiveCourses(pageable)
+                .flatMap(courses -> toSliceResponse(courses, courseService.countActiveCourses(countMode)));
+    }
+
+    @GetMapping(params = "after")
+    public Mono<ResponseEntity<CursorPageDTO<CourseDTO>>> listByCursor(
+            @RequestParam String after,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "name") String sortBy,
+            @RequestParam(defaultValue = "ASC") String direction) {
+
+        Sort sort = cursorMapper.toSort(sortBy, Sort.Direction.fromString(direction));
+        ScrollPosition position = cursorMapper.toScrollPosition(after, sortBy);
+
+        return courseService.scrollActiveCourses(position, sort, size)
+                .map(courses -> toCursorResponse(courses, sortBy));
+    }
+
+    @GetMapping(value = "/stream", produces = NDJSON)
+    public Flux<CourseDTO> stream() {
+        return courseService.streamActiveCourses();
+    }
+
+    @GetMapping("/all")
+    public Mono<ResponseEntity<Page<CourseDTO>>> listAll(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "name") String sortBy,
+            @RequestParam(defaultValue = "ASC") String direction) {
+
+        Sort.Direction sortDirection = Sort.Direction.fromString(direction);
+        Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
+
+        return courseService.listAllCourses(pageable).map(ReactiveCourseController::okOrNoContent);
+    }
+
+    @GetMapping(value = "/all", params = {"count", "!after"})
+    public Mono<ResponseEntity<SliceDTO<CourseDTO>>> listAllSlice(
+            @RequestParam String count,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "name") String sortBy,
+            @RequestParam(defaultValue = "ASC") String direction) {
+
+        CountMode countMode = CountMode.fromString(count);
+        Sort.Direction sortDirection = Sort.Direction.fromString(direction);
+        Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
+
+        return courseService.sliceAllCourses(pageable)
+                .flatMap(courses -> toSliceResponse(courses, courseService.countAllCourses(countMode)));
+    }
+
+    @GetMapping(value = "/all", params = "after")
+    public Mono<ResponseEntity<CursorPageDTO<CourseDTO>>> listAllByCursor(
+            @RequestParam String after,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "name") String sortBy,
+            @RequestParam(defaultValue = "ASC") String direction) {
+
+        Sort sort = cursorMapper.toSort(sortBy, Sort.Direction.fromString(direction));
+        ScrollPosition position = cursorMapper.toScrollPosition(after, sortBy);
+
+        return courseService.scrollAllCourses(position, sort, size)
+                .map(courses -> toCursorResponse(courses, sortBy));
+    }
+
+    @GetMapping("/{id}")
+    public Mono<CourseDTO> getById(@PathVariable @NotNull @Positive Long id) {
+        return courseService.findActiveById(id);
+    }
+
+    @GetMapping("/with-lessons")
+    public Mono<ResponseEntity<Page<CourseWithLessonsResponseDTO>>> listWithLessons(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "name") String sortBy,
+            @RequestParam(defaultValue = "ASC") String direction) {
+
+        Sort.Direction sortDirection = Sort.Direction.fromString(direction);
+        Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
+
+        return courseService.listActiveCoursesWithLessons(pageable).map(ReactiveCourseController::okOrNoContent);
+    }
+
+    @GetMapping("/{id}/with-lessons")
+    public Mono<CourseWithLessonsResponseDTO> getByIdWithLessons(@PathVariable @NotNull @Positive Long id) {
+        return courseService.getActiveCourseWithLessons(id);
+    }
+
+    @GetMapping("/all/{id}/with-lessons")
+    public Mono<CourseWithLessonsResponseDTO> getAnyByIdWithLessons(@PathVariable @NotNull @Positive Long id) {
+        return courseService.getCourseWithLessons(id);
+    }
+
+    private static <T> ResponseEntity<Page<T>> okOrNoContent(Page<T> page) {
+        return page.isEmpty()
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.ok(page);
+    }
+
+    private static <T> Mono<ResponseEntity<SliceDTO<T>>> toSliceResponse(Slice<T> slice, Mono<Long> count) {
+        if (slice.isEmpty()) {
+            return Mono.just(ResponseEntity.noContent().build());
+        }
+        return count.map(total -> ResponseEntity.ok(SliceDTO.of(slice, total)))
+                .defaultIfEmpty(ResponseEntity.ok(SliceDTO.of(slice, null)));
+    }
+
+    private ResponseEntity<CursorPageDTO<CourseDTO>> toCursorResponse(Window<CourseDTO> window, String sortBy) {
+        return window.isEmpty()
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.ok(cursorMapper.toCursorPage(window, sortBy));
+    }
+}
@@ -0,0 +1,157 @@
+package com.camila.crud_spring.controller;
+
+import com.camila.crud_spring.dto.CursorPageDTO;
+import com.camila.crud_spring.dto.LessonDTO;
+import com.camila.crud_spring.dto.SliceDTO;
+import com.camila.crud_spring.dto.mapper.CursorMapper;
+import com.camila.crud_spring.enums.CountMode;
+import com.camila.crud_spring.service.ReactiveLessonService;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking mirror of the {@link LessonController} reads, served from R2DBC.
+ */
+@Validated
+@RestController
+@RequestMapping("/api/reactive/lessons")
+@AllArgsConstructor
+public class ReactiveLessonController {
+
+    private static final String NDJSON = "application/x-ndjson";
+
+    private final ReactiveLessonService lessonService;
+    private final CursorMapper cursorMapper;
+
+    @GetMapping
+    public Mono<ResponseEntity<Page<LessonDTO>>> list(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "name") String sortBy,
+            @RequestParam(defaultValue = "ASC") String direction) {
+
+        Sort.Direction sortDirection = Sort.Direction.fromString(direction);
+        Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
+
+        return lessonService.listAllLessons(pageable).map(ReactiveLessonController::okOrNoContent);
+    }
+
+    @GetMapping(params = {"count", "!after"})
+    public Mono<ResponseEntity<SliceDTO<LessonDTO>>> listSlice(
+            @RequestParam String count,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "name") String sortBy,
+            @RequestParam(defaultValue = "ASC") String direction) {
+
+        CountMode countMode = CountMode.fromString(count);
+        Sort.Direction sortDirection = Sort.Direction.fromString(direction);
+        Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
+
+        return lessonService.sliceAllLessons(pageable)
+                .flatMap(lessons -> toSliceResponse(lessons, lessonService.countAllLessons(countMode)));
+    }
+
+    @GetMapping(params = "after")
+    public Mono<ResponseEntity<CursorPageDTO<LessonDTO>>> listByCursor(
+            @RequestParam String after,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "name") String sortBy,
+            @RequestParam(defaultValue = "ASC") String direction) {
+
+        Sort sort = cursorMapper.toSort(sortBy, Sort.Direction.fromString(direction));
+        ScrollPosition position = cursorMapper.toScrollPosition(after, sortBy);
+
+        return lessonService.scrollAllLessons(position, sort, size)
+                .map(lessons -> toCursorResponse(lessons, sortBy));
+    }
+
+    @GetMapping("/course/{courseId}")
+    public Mono<ResponseEntity<Page<LessonDTO>>> listByCourse(
+            @PathVariable @NotNull @Positive Long courseId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "name") String sortBy,
+            @RequestParam(defaultValue = "ASC") String direction) {
+
+        Sort.Direction sortDirection = Sort.Direction.fromString(direction);
+        Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
+
+        return lessonService.listLessonsByCourse(courseId, pageable).map(ReactiveLessonController::okOrNoContent);
+    }
+
+    @GetMapping(value = "/course/{courseId}", params = {"count", "!after"})
+    public Mono<ResponseEntity<SliceDTO<LessonDTO>>> listSliceByCourse(
+            @PathVariable @NotNull @Positive Long courseId,
+            @RequestParam String count,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "name") String sortBy,
+            @RequestParam(defaultValue = "ASC") String direction) {
+
+        CountMode countMode = CountMode.fromString(count);
+        Sort.Direction sortDirection = Sort.Direction.fromString(direction);
+        Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
+
+        return lessonService.sliceLessonsByCourse(courseId, pageable)
+                .flatMap(lessons -> toSliceResponse(lessons, lessonService.countLessonsByCourse(courseId, countMode)));
+    }
+
+    @GetMapping(value = "/course/{courseId}", params = "after")
+    public Mono<ResponseEntity<CursorPageDTO<LessonDTO>>> listByCourseAndCursor(
+            @PathVariable @NotNull @Positive Long courseId,
+            @RequestParam String after,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "name") String sortBy,
+            @RequestParam(defaultValue = "ASC") String direction) {
+
+        Sort sort = cursorMapper.toSort(sortBy, Sort.Direction.fromString(direction));
+        ScrollPosition position = cursorMapper.toScrollPosition(after, sortBy);
+
+        return lessonService.scrollLessonsByCourse(courseId, position, sort, size)
+                .map(lessons -> toCursorResponse(lessons, sortBy));
+    }
+
+    @GetMapping(value = "/course/{courseId}/stream", produces = NDJSON)
+    public Flux<LessonDTO> streamByCourse(@PathVariable @NotNull @Positive Long courseId) {
+        return lessonService.streamLessonsByCourse(courseId);
+    }
+
+    @GetMapping("/{id}")
+    public Mono<LessonDTO> getById(@PathVariable @NotNull @Positive Long id) {
+        return lessonService.findById(id);
+    }
+
+    private static <T> ResponseEntity<Page<T>> okOrNoContent(Page<T> page) {
+        return page.isEmpty()
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.ok(page);
+    }
+
+    private static <T> Mono<ResponseEntity<SliceDTO<T>>> toSliceResponse(Slice<T> slice, Mono<Long> count) {
+        if (slice.isEmpty()) {
+            return Mono.just(ResponseEntity.noContent().build());
+        }
+        return count.map(total -> ResponseEntity.ok(SliceDTO.of(slice, total)))
+                .defaultIfEmpty(ResponseEntity.ok(SliceDTO.of(slice, null)));
+    }
+
+    private ResponseEntity<CursorPageDTO<LessonDTO>> toCursorResponse(Window<LessonDTO> window, String sortBy) {
+        return window.isEmpty()
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.ok(cursorMapper.toCursorPage(window, sortBy));
+    }
+}
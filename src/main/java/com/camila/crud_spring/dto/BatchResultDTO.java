@@ -0,0 +1,34 @@
+package com.camila.crud_spring.dto;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public record BatchResultDTO<T>(
+        List<T> found,
+        List<Long> missing
+) {
+    /**
+     * Puts {@code rows} in the order their ids were requested. Repeated ids are answered once and
+     * ids without a row are listed in {@code missing}.
+     */
+    public static <T> BatchResultDTO<T> of(Collection<Long> ids, Collection<T> rows, Function<T, Long> idOf) {
+        Map<Long, T> rowsById = rows.stream().collect(Collectors.toMap(idOf, Function.identity()));
+        List<T> found = new ArrayList<>();
+        List<Long> missing = new ArrayList<>();
+
+        for (Long id : new LinkedHashSet<>(ids)) {
+            T row = rowsById.get(id);
+            if (row != null) {
+                found.add(row);
+            } else {
+                missing.add(id);
+            }
+        }
+        return new BatchResultDTO<>(found, missing);
+    }
+}
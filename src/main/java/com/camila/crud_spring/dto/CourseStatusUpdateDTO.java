@@ -0,0 +1,27 @@
+package com.camila.crud_spring.dto;
+
+import com.camila.crud_spring.enums.Category;
+import com.camila.crud_spring.enums.Status;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record CourseStatusUpdateDTO(
+        @Size(max = 1000, message = "At most 1000 ids can be updated at once")
+        List<@NotNull @Positive Long> ids,
+
+        Category category,
+
+        @NotNull(message = "Status is required")
+        Status status
+) {
+    @JsonIgnore
+    @AssertTrue(message = "Either ids or category must be given, not both")
+    public boolean isSingleTarget() {
+        return (ids != null && !ids.isEmpty()) != (category != null);
+    }
+}
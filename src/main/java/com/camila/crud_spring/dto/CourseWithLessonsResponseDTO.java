@@ -1,9 +1,20 @@
 package com.camila.crud_spring.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import java.util.List;
 
+/**
+ * {@code version} is the course version the body was built from. It is kept out of the JSON and
+ * lets a cached body that is older than the course's current version be recognised and rebuilt.
+ */
 public record CourseWithLessonsResponseDTO(
         CourseDTO course,
-        List<LessonDTO> lessons
+        List<LessonDTO> lessons,
+        @JsonIgnore Long version
 ) {
+
+    public CourseWithLessonsResponseDTO(CourseDTO course, List<LessonDTO> lessons) {
+        this(course, lessons, null);
+    }
 }
@@ -0,0 +1,10 @@
+package com.camila.crud_spring.dto;
+
+import java.util.List;
+
+public record CursorPageDTO<T>(
+        List<T> content,
+        String nextCursor,
+        boolean hasNext
+) {
+}
@@ -0,0 +1,6 @@
+package com.camila.crud_spring.dto;
+
+public record DeleteResultDTO(
+        int deleted
+) {
+}
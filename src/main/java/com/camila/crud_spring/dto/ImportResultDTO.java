@@ -0,0 +1,22 @@
+package com.camila.crud_spring.dto;
+
+import com.camila.crud_spring.enums.ImportStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ImportResultDTO(
+        long line,
+        ImportStatus status,
+        Long id,
+        List<String> errors
+) {
+    public static ImportResultDTO created(long line, Long id) {
+        return new ImportResultDTO(line, ImportStatus.CREATED, id, null);
+    }
+
+    public static ImportResultDTO failed(long line, List<String> errors) {
+        return new ImportResultDTO(line, ImportStatus.FAILED, null, errors);
+    }
+}
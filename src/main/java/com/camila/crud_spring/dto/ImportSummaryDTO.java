@@ -0,0 +1,8 @@
+package com.camila.crud_spring.dto;
+
+public record ImportSummaryDTO(
+        long total,
+        long created,
+        long failed
+) {
+}
@@ -0,0 +1,20 @@
+package com.camila.crud_spring.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+public record SliceDTO<T>(
+        List<T> content,
+        int number,
+        int size,
+        boolean hasNext,
+
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        Long totalElements
+) {
+    public static <T> SliceDTO<T> of(Slice<T> slice, Long totalElements) {
+        return new SliceDTO<>(slice.getContent(), slice.getNumber(), slice.getSize(), slice.hasNext(), totalElements);
+    }
+}
@@ -47,7 +47,7 @@ public class CourseMapper {
 
         CourseDTO courseDTO = toCourseDTO(course);
 
-        return new CourseWithLessonsResponseDTO(courseDTO, lessonDTOs);
+        return new CourseWithLessonsResponseDTO(courseDTO, lessonDTOs, course.getVersion());
     }
 
     public Course toCourse(CourseWithLessonRequestDTO courseDTO) {
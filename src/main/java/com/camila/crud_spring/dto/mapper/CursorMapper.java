@@ -0,0 +1,92 @@
+package com.camila.crud_spring.dto.mapper;
+
+import com.camila.crud_spring.dto.CursorPageDTO;
+import com.camila.crud_spring.exception.InvalidCursorException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Encodes the keyset position of the last row (sort property, id and name) into the opaque
+ * {@code after} token used by the list endpoints, and decodes it back into a seek position.
+ */
+@Component
+public class CursorMapper {
+
+    private static final String ID = "id";
+    private static final String NAME = "name";
+    private static final String SEPARATOR = "\n";
+
+    public Sort toSort(String sortBy, Sort.Direction direction) {
+        validateSortProperty(sortBy);
+        return ID.equals(sortBy)
+                ? Sort.by(direction, ID)
+                : Sort.by(direction, NAME).and(Sort.by(direction, ID));
+    }
+
+    public ScrollPosition toScrollPosition(String cursor, String sortBy) {
+        validateSortProperty(sortBy);
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+
+        String[] parts = decode(cursor).split(SEPARATOR, 3);
+        if (!sortBy.equals(parts[0]) || parts.length != (ID.equals(sortBy) ? 2 : 3)) {
+            throw new InvalidCursorException("Cursor inválido para a ordenação: " + sortBy);
+        }
+
+        Map<String, Object> keys = new LinkedHashMap<>();
+        if (NAME.equals(sortBy)) {
+            keys.put(NAME, parts[2]);
+        }
+        keys.put(ID, parseId(parts[1]));
+        return ScrollPosition.forward(keys);
+    }
+
+    public <T> CursorPageDTO<T> toCursorPage(Window<T> window, String sortBy) {
+        String nextCursor = window.hasNext() && !window.isEmpty()
+                ? toCursor((KeysetScrollPosition) window.positionAt(window.size() - 1), sortBy)
+                : null;
+
+        return new CursorPageDTO<>(window.getContent(), nextCursor, window.hasNext());
+    }
+
+    private String toCursor(KeysetScrollPosition position, String sortBy) {
+        Map<String, ?> keys = position.getKeys();
+        StringBuilder token = new StringBuilder(sortBy).append(SEPARATOR).append(keys.get(ID));
+        if (NAME.equals(sortBy)) {
+            token.append(SEPARATOR).append(keys.get(NAME));
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(token.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String decode(String cursor) {
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidCursorException("Cursor inválido: " + cursor);
+        }
+    }
+
+    private Long parseId(String value) {
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException ex) {
+            throw new InvalidCursorException("Cursor inválido: id " + value);
+        }
+    }
+
+    private void validateSortProperty(String sortBy) {
+        if (!ID.equals(sortBy) && !NAME.equals(sortBy)) {
+            throw new InvalidCursorException("Paginação por cursor suporta apenas ordenação por name ou id: " + sortBy);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.camila.crud_spring.dto.mapper;
+
+import com.camila.crud_spring.exception.PreconditionFailedException;
+import org.springframework.http.ETag;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Turns entity versions into the strong ETags sent by the API, and {@code If-Match} headers back
+ * into the version a write expects to replace.
+ */
+@Component
+public class ETagMapper {
+
+    public String toETag(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    // null means any current version is accepted (no header, or "*"). If-Match uses the strong
+    // comparison, so a weak or non-numeric tag can never match and fails the precondition.
+    public Long toExpectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return null;
+        }
+
+        List<ETag> tags = ETag.parse(ifMatch);
+        if (tags.size() == 1 && tags.get(0).isWildcard()) {
+            return null;
+        }
+        if (tags.size() != 1 || tags.get(0).weak()) {
+            throw new PreconditionFailedException("If-Match deve conter uma única ETag forte: " + ifMatch);
+        }
+
+        try {
+            return Long.valueOf(tags.get(0).tag());
+        } catch (NumberFormatException ex) {
+            throw new PreconditionFailedException("If-Match deve conter uma única ETag forte: " + ifMatch);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.camila.crud_spring.dto.mapper;
+
+import com.camila.crud_spring.exception.InvalidFieldsException;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Turns the {@code fields} query parameter into the attributes to select, keyed by the name the
+ * field has in the JSON body ({@code _id}, {@code name}, ...). Fields come out in the order of the
+ * full DTO whatever order they were asked in, and unknown names are rejected.
+ */
+@Component
+public class FieldsMapper {
+
+    private static final Map<String, String> COURSE_FIELDS = fields("_id", "id", "name", "name", "category", "category");
+    private static final Map<String, String> LESSON_FIELDS = fields("id", "id", "name", "name", "youtubeUrl", "youtubeUrl");
+    private static final String COURSE_PREFIX = "course.";
+    private static final String LESSONS_PREFIX = "lessons.";
+
+    public Map<String, String> toCourseFields(String fields) {
+        return select(parse(fields), COURSE_FIELDS, "");
+    }
+
+    public Map<String, String> toLessonFields(String fields) {
+        return select(parse(fields), LESSON_FIELDS, "");
+    }
+
+    /**
+     * Fields of {@code CourseWithLessonsResponseDTO}, written as {@code course.name} or
+     * {@code lessons.name}. Either side may be left out, in which case it is not loaded at all.
+     */
+    public CourseWithLessonsFields toCourseWithLessonsFields(String fields) {
+        Set<String> requested = parse(fields);
+        requested.stream()
+                .filter(field -> !field.startsWith(COURSE_PREFIX) && !field.startsWith(LESSONS_PREFIX))
+                .findFirst()
+                .ifPresent(field -> {
+                    throw new InvalidFieldsException("Campo desconhecido: " + field);
+                });
+
+        return new CourseWithLessonsFields(
+                select(requested, COURSE_FIELDS, COURSE_PREFIX),
+                select(requested, LESSON_FIELDS, LESSONS_PREFIX));
+    }
+
+    /**
+     * Sparse fieldsets are only served on offset pages, so {@code count} and {@code after} are
+     * rejected instead of silently answering with full bodies.
+     */
+    public void requireOffsetPaging(String count, String after) {
+        if (count != null || after != null) {
+            throw new InvalidFieldsException("fields não pode ser combinado com count ou after");
+        }
+    }
+
+    private static Set<String> parse(String fields) {
+        Set<String> requested = Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (requested.isEmpty()) {
+            throw new InvalidFieldsException("Informe ao menos um campo em fields");
+        }
+        return requested;
+    }
+
+    private static Map<String, String> select(Set<String> requested, Map<String, String> available, String prefix) {
+        requested.stream()
+                .filter(field -> field.startsWith(prefix))
+                .filter(field -> !available.containsKey(field.substring(prefix.length())))
+                .findFirst()
+                .ifPresent(field -> {
+                    throw new InvalidFieldsException("Campo desconhecido: " + field);
+                });
+
+        Map<String, String> selected = new LinkedHashMap<>();
+        available.forEach((name, attribute) -> {
+            if (requested.contains(prefix + name)) {
+                selected.put(name, attribute);
+            }
+        });
+        return selected;
+    }
+
+    private static Map<String, String> fields(String... namesAndAttributes) {
+        Map<String, String> fields = new LinkedHashMap<>();
+        for (int i = 0; i < namesAndAttributes.length; i += 2) {
+            fields.put(namesAndAttributes[i], namesAndAttributes[i + 1]);
+        }
+        return fields;
+    }
+
+    public record CourseWithLessonsFields(Map<String, String> course, Map<String, String> lessons) {
+    }
+}
@@ -2,6 +2,8 @@ package com.camila.crud_spring.enums;
 
 import com.fasterxml.jackson.annotation.JsonValue;
 
+import java.util.Arrays;
+
 public enum Category {
     FRONTEND("Front-end"),
     BACKEND("Back-end"),
@@ -29,4 +31,18 @@ public enum Category {
     public String toString() {
         return value;
     }
+
+    /**
+     * Accepts either the JSON value ("Front-end") or the constant name, ignoring case.
+     */
+    public static Category fromString(String value) {
+        String trimmed = value.trim();
+        for (Category category : values()) {
+            if (category.value.equalsIgnoreCase(trimmed) || category.name().equalsIgnoreCase(trimmed)) {
+                return category;
+            }
+        }
+        throw new IllegalArgumentException(
+                "Invalid value '%s' for category given; Has to be one of %s (case insensitive)".formatted(value, Arrays.toString(values())));
+    }
 }
@@ -0,0 +1,16 @@
+package com.camila.crud_spring.enums;
+
+public enum CountMode {
+    NONE,
+    APPROXIMATE,
+    EXACT;
+
+    public static CountMode fromString(String value) {
+        try {
+            return CountMode.valueOf(value.trim().toUpperCase());
+        } catch (Exception ex) {
+            throw new IllegalArgumentException(
+                    "Invalid value '%s' for count given; Has to be either 'none', 'approximate' or 'exact' (case insensitive)".formatted(value), ex);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.camila.crud_spring.enums;
+
+public enum ExportFormat {
+    NDJSON,
+    JSON;
+
+    public static ExportFormat fromString(String value) {
+        try {
+            return ExportFormat.valueOf(value.trim().toUpperCase());
+        } catch (Exception ex) {
+            throw new IllegalArgumentException(
+                    "Invalid value '%s' for format given; Has to be either 'ndjson' or 'json' (case insensitive)".formatted(value), ex);
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.camila.crud_spring.enums;
+
+public enum ImportStatus {
+    CREATED,
+    FAILED
+}
@@ -2,6 +2,8 @@ package com.camila.crud_spring.enums;
 
 import com.fasterxml.jackson.annotation.JsonValue;
 
+import java.util.Arrays;
+
 public enum Status {
     ACTIVE("Active"),
     INACTIVE("Inactive");
@@ -21,4 +23,18 @@ public enum Status {
     public String toString() {
         return value;
     }
+
+    /**
+     * Accepts either the JSON value ("Active") or the constant name, ignoring case.
+     */
+    public static Status fromString(String value) {
+        String trimmed = value.trim();
+        for (Status status : values()) {
+            if (status.value.equalsIgnoreCase(trimmed) || status.name().equalsIgnoreCase(trimmed)) {
+                return status;
+            }
+        }
+        throw new IllegalArgumentException(
+                "Invalid value '%s' for status given; Has to be one of %s (case insensitive)".formatted(value, Arrays.toString(values())));
+    }
 }
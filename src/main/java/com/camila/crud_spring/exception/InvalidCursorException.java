@@ -0,0 +1,9 @@
+package com.camila.crud_spring.exception;
+
+public class InvalidCursorException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,9 @@
+package com.camila.crud_spring.exception;
+
+public class InvalidFieldsException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public InvalidFieldsException(String message) {
+        super(message);
+    }
+}
@@ -1,32 +1,152 @@
 package com.camila.crud_spring.repository;
 
+import com.camila.crud_spring.dto.CourseDTO;
+import com.camila.crud_spring.enums.Category;
 import com.camila.crud_spring.enums.Status;
 import com.camila.crud_spring.model.Course;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Repository
-public interface CourseRepository extends JpaRepository<Course, Long> {
+public interface CourseRepository extends JpaRepository<Course, Long>, JpaSpecificationExecutor<Course> {
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Page<Course> findByStatus(Status status, Pageable pageable);
 
+    Window<Course> findByStatus(Status status, ScrollPosition position, Sort sort, Limit limit);
+
+    long countByStatus(Status status);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Course c SET c.status = :status, c.version = c.version + 1 WHERE c.id IN :ids")
+    int updateStatusByIdIn(@Param("ids") Collection<Long> ids, @Param("status") Status status);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Course c SET c.status = :status, c.version = c.version + 1 WHERE c.category = :category")
+    int updateStatusByCategory(@Param("category") Category category, @Param("status") Status status);
+
+    // Lessons must be removed first with LessonRepository#deleteByCourseIdIn; this statement
+    // bypasses cascades and orphan removal.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Course c WHERE c.id IN :ids")
+    int hardDeleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    Window<Course> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Course> findByIdAndStatus(Long id, Status status);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query(value = "SELECT new com.camila.crud_spring.dto.CourseDTO(c.id, c.name, c.category) FROM Course c WHERE c.status = :status",
+            countQuery = "SELECT COUNT(c) FROM Course c WHERE c.status = :status")
+    Page<CourseDTO> findCourseDTOsByStatus(@Param("status") Status status, Pageable pageable);
+
+    @Query("SELECT new com.camila.crud_spring.dto.CourseDTO(c.id, c.name, c.category) FROM Course c WHERE c.status = :status")
+    Slice<CourseDTO> findCourseDTOSliceByStatus(@Param("status") Status status, Pageable pageable);
+
+    @Query(value = "SELECT new com.camila.crud_spring.dto.CourseDTO(c.id, c.name, c.category) FROM Course c",
+            countQuery = "SELECT COUNT(c) FROM Course c")
+    Page<CourseDTO> findAllCourseDTOs(Pageable pageable);
+
+    @Query("SELECT new com.camila.crud_spring.dto.CourseDTO(c.id, c.name, c.category) FROM Course c")
+    Slice<CourseDTO> findAllCourseDTOSlice(Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT new com.camila.crud_spring.dto.CourseDTO(c.id, c.name, c.category) FROM Course c WHERE c.id = :id AND c.status = :status")
+    Optional<CourseDTO> findCourseDTOByIdAndStatus(@Param("id") Long id, @Param("status") Status status);
+
+    @Query("SELECT new com.camila.crud_spring.dto.CourseDTO(c.id, c.name, c.category) FROM Course c WHERE c.id IN :ids AND c.status = :status")
+    List<CourseDTO> findCourseDTOsByIdInAndStatus(@Param("ids") Collection<Long> ids, @Param("status") Status status);
+
+    @Query("SELECT c.version FROM Course c WHERE c.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @Query("SELECT c.version FROM Course c WHERE c.id = :id AND c.status = :status")
+    Optional<Long> findVersionByIdAndStatus(@Param("id") Long id, @Param("status") Status status);
+
+    // Lessons are part of the course representation, so lesson writes take the course through this
+    // query to bump its version (and its ETag). The row is locked and incremented right away, so
+    // lesson writes on the same course wait for each other instead of failing a version check, and
+    // only this course's second-level cache entry is touched, unlike a bulk UPDATE.
+    @Lock(LockModeType.PESSIMISTIC_FORCE_INCREMENT)
+    @Query("SELECT c FROM Course c WHERE c.id = :id")
+    Optional<Course> findByIdForVersionIncrement(@Param("id") Long id);
+
+    // Course PUTs load the course through this query, so every accepted PUT moves its version when
+    // the transaction commits and loses to any write that moved it in between.
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @Query("SELECT c FROM Course c WHERE c.id = :id")
+    Optional<Course> findByIdIncrementingVersion(@Param("id") Long id);
+
     @Query("SELECT c FROM Course c LEFT JOIN FETCH c.lessons WHERE c.id = :id")
     Optional<Course> findByIdWithLessons(@Param("id") Long id);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT c FROM Course c LEFT JOIN FETCH c.lessons WHERE c.id = :id AND c.status = :status")
     Optional<Course> findByIdAndStatusWithLessons(@Param("id") Long id, @Param("status") Status status);
 
-    @Query("SELECT DISTINCT c FROM Course c LEFT JOIN FETCH c.lessons WHERE c.status = :status")
-    Page<Course> findByStatusWithLessons(@Param("status") Status status, Pageable pageable);
+    @Query("SELECT c.id FROM Course c WHERE c.status = :status")
+    Page<Long> findIdsByStatus(@Param("status") Status status, Pageable pageable);
+
+    @Query("SELECT c.id FROM Course c")
+    Page<Long> findAllIds(Pageable pageable);
+
+    @Query("SELECT DISTINCT c FROM Course c LEFT JOIN FETCH c.lessons WHERE c.id IN :ids")
+    List<Course> findAllWithLessonsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT DISTINCT c FROM Course c LEFT JOIN FETCH c.lessons WHERE c.id IN :ids AND c.status = :status")
+    List<Course> findAllWithLessonsByIdInAndStatus(@Param("ids") Collection<Long> ids, @Param("status") Status status);
+
+    // Ordered by id so Hibernate can assemble each course's lessons from consecutive rows while
+    // scrolling; read-only and cache-ignoring so a full export does not fill the session or the L2 cache.
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("SELECT c FROM Course c LEFT JOIN FETCH c.lessons ORDER BY c.id")
+    Stream<Course> streamAllWithLessons();
+
+    // Paging a collection fetch join makes Hibernate page in memory (HHH90003004), so the page
+    // of ids is selected in the database first and the lessons are fetched only for those ids.
+    default Page<Course> findByStatusWithLessons(Status status, Pageable pageable) {
+        return fetchLessons(findIdsByStatus(status, pageable));
+    }
+
+    default Page<Course> findAllWithLessons(Pageable pageable) {
+        return fetchLessons(findAllIds(pageable));
+    }
+
+    private Page<Course> fetchLessons(Page<Long> ids) {
+        Map<Long, Course> coursesById = ids.isEmpty()
+                ? Map.of()
+                : findAllWithLessonsByIdIn(ids.getContent()).stream()
+                        .collect(Collectors.toMap(Course::getId, Function.identity()));
 
-    @Query("SELECT DISTINCT c FROM Course c LEFT JOIN FETCH c.lessons")
-    Page<Course> findAllWithLessons(Pageable pageable);
+        return ids.map(coursesById::get);
+    }
 }
@@ -0,0 +1,49 @@
+package com.camila.crud_spring.repository;
+
+import com.camila.crud_spring.enums.Category;
+import com.camila.crud_spring.enums.Status;
+import com.camila.crud_spring.model.Course;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Filters for the course search. Each one is {@code null} when its value is missing, so callers
+ * can combine them with {@link Specification#allOf} and only the given filters end up in the query.
+ * Name matching is a prefix {@code LIKE} so it stays a range scan on the name indexes. It is
+ * case-sensitive because course.name has a binary collation on MySQL (V4) and H2 compares
+ * case-sensitively by default; with another collation it would follow that collation instead.
+ */
+public final class CourseSpecifications {
+
+    private static final char ESCAPE = '\\';
+
+    private CourseSpecifications() {
+    }
+
+    public static Specification<Course> search(Status status, Category category, String namePrefix) {
+        return Specification.allOf(hasStatus(status), hasCategory(category), nameStartsWith(namePrefix));
+    }
+
+    public static Specification<Course> hasId(Long id) {
+        return (root, query, builder) -> builder.equal(root.get("id"), id);
+    }
+
+    public static Specification<Course> hasStatus(Status status) {
+        return status == null ? null : (root, query, builder) -> builder.equal(root.get("status"), status);
+    }
+
+    public static Specification<Course> hasCategory(Category category) {
+        return category == null ? null : (root, query, builder) -> builder.equal(root.get("category"), category);
+    }
+
+    public static Specification<Course> nameStartsWith(String prefix) {
+        if (prefix == null || prefix.isBlank()) {
+            return null;
+        }
+        String pattern = escape(prefix.trim()) + "%";
+        return (root, query, builder) -> builder.like(root.get("name"), pattern, ESCAPE);
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,112 @@
+package com.camila.crud_spring.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import lombok.AllArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Criteria queries for sparse fieldsets: only the requested attributes are selected, and each row
+ * comes back as a map from output name to value instead of an entity or a full DTO. Attributes are
+ * paths such as {@code name} or {@code course.id}; they come from a whitelist, never from the request.
+ */
+@Repository
+@AllArgsConstructor
+public class FieldProjectionRepository {
+
+    private final EntityManager entityManager;
+
+    public <T> Page<Map<String, Object>> findAll(
+            Class<T> domainClass, Specification<T> spec, Map<String, String> fields, Pageable pageable) {
+
+        TypedQuery<Tuple> query = createQuery(domainClass, spec, fields, pageable.getSort());
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        return PageableExecutionUtils.getPage(toMaps(query), pageable, () -> count(domainClass, spec));
+    }
+
+    public <T> List<Map<String, Object>> findAll(
+            Class<T> domainClass, Specification<T> spec, Map<String, String> fields, Sort sort) {
+
+        return toMaps(createQuery(domainClass, spec, fields, sort));
+    }
+
+    public <T> Optional<Map<String, Object>> findOne(Class<T> domainClass, Specification<T> spec, Map<String, String> fields) {
+        return toMaps(createQuery(domainClass, spec, fields, Sort.unsorted()).setMaxResults(1)).stream().findFirst();
+    }
+
+    private <T> TypedQuery<Tuple> createQuery(
+            Class<T> domainClass, Specification<T> spec, Map<String, String> fields, Sort sort) {
+
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = builder.createTupleQuery();
+        Root<T> root = query.from(domainClass);
+
+        List<Selection<?>> selections = fields.entrySet().stream()
+                .<Selection<?>>map(field -> path(root, field.getValue()).alias(field.getKey()))
+                .toList();
+        query.multiselect(selections);
+        where(spec, root, query, builder);
+        query.orderBy(QueryUtils.toOrders(sort, root, builder));
+
+        return entityManager.createQuery(query);
+    }
+
+    private <T> long count(Class<T> domainClass, Specification<T> spec) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = builder.createQuery(Long.class);
+        Root<T> root = query.from(domainClass);
+        query.select(builder.count(root));
+        where(spec, root, query, builder);
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static <T> void where(Specification<T> spec, Root<T> root, CriteriaQuery<?> query, CriteriaBuilder builder) {
+        Predicate predicate = spec == null ? null : spec.toPredicate(root, query, builder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+    }
+
+    // A foreign key such as course.id is read from the row itself; Hibernate adds no join for it.
+    private static Path<?> path(Root<?> root, String attribute) {
+        Path<?> path = root;
+        for (String part : attribute.split("\\.")) {
+            path = path.get(part);
+        }
+        return path;
+    }
+
+    private static List<Map<String, Object>> toMaps(TypedQuery<Tuple> query) {
+        return query.getResultList().stream()
+                .map(tuple -> {
+                    Map<String, Object> row = new LinkedHashMap<>();
+                    for (TupleElement<?> element : tuple.getElements()) {
+                        row.put(element.getAlias(), tuple.get(element));
+                    }
+                    return row;
+                })
+                .toList();
+    }
+}
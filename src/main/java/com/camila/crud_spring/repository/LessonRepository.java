@@ -1,17 +1,66 @@
 package com.camila.crud_spring.repository;
 
+import com.camila.crud_spring.dto.LessonDTO;
 import com.camila.crud_spring.model.Lesson;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface LessonRepository extends JpaRepository<Lesson, Long> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Page<Lesson> findByCourseId(Long courseId, Pageable pageable);
 
+    Window<Lesson> findByCourseId(Long courseId, ScrollPosition position, Sort sort, Limit limit);
+
+    Window<Lesson> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+
+    @Query(value = "SELECT new com.camila.crud_spring.dto.LessonDTO(l.id, l.name, l.youtubeUrl) FROM Lesson l",
+            countQuery = "SELECT COUNT(l) FROM Lesson l")
+    Page<LessonDTO> findAllLessonDTOs(Pageable pageable);
+
+    @Query("SELECT new com.camila.crud_spring.dto.LessonDTO(l.id, l.name, l.youtubeUrl) FROM Lesson l")
+    Slice<LessonDTO> findAllLessonDTOSlice(Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query(value = "SELECT new com.camila.crud_spring.dto.LessonDTO(l.id, l.name, l.youtubeUrl) FROM Lesson l WHERE l.course.id = :courseId",
+            countQuery = "SELECT COUNT(l) FROM Lesson l WHERE l.course.id = :courseId")
+    Page<LessonDTO> findLessonDTOsByCourseId(@Param("courseId") Long courseId, Pageable pageable);
+
+    @Query("SELECT new com.camila.crud_spring.dto.LessonDTO(l.id, l.name, l.youtubeUrl) FROM Lesson l WHERE l.course.id = :courseId")
+    Slice<LessonDTO> findLessonDTOSliceByCourseId(@Param("courseId") Long courseId, Pageable pageable);
+
+    @Query("SELECT l.version FROM Lesson l WHERE l.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @Query("SELECT new com.camila.crud_spring.dto.LessonDTO(l.id, l.name, l.youtubeUrl) FROM Lesson l WHERE l.id = :id")
+    Optional<LessonDTO> findLessonDTOById(@Param("id") Long id);
+
+    @Query("SELECT new com.camila.crud_spring.dto.LessonDTO(l.id, l.name, l.youtubeUrl) FROM Lesson l WHERE l.id IN :ids")
+    List<LessonDTO> findLessonDTOsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Lesson l WHERE l.course.id IN :courseIds")
+    int deleteByCourseIdIn(@Param("courseIds") Collection<Long> courseIds);
+
+    long countByCourseId(Long courseId);
+
     Page<Lesson> findByNameContainingIgnoreCase(String name, Pageable pageable);
 
     Optional<Lesson> findByYoutubeUrl(String youtubeUrl);
@@ -0,0 +1,28 @@
+package com.camila.crud_spring.repository;
+
+import com.camila.crud_spring.model.Lesson;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+
+/**
+ * Filters for the lesson reads that go through {@link FieldProjectionRepository}. The course is
+ * matched on the foreign key, so none of them joins the course table.
+ */
+public final class LessonSpecifications {
+
+    private LessonSpecifications() {
+    }
+
+    public static Specification<Lesson> hasId(Long id) {
+        return (root, query, builder) -> builder.equal(root.get("id"), id);
+    }
+
+    public static Specification<Lesson> hasCourseId(Long courseId) {
+        return (root, query, builder) -> builder.equal(root.get("course").get("id"), courseId);
+    }
+
+    public static Specification<Lesson> hasCourseIdIn(Collection<Long> courseIds) {
+        return (root, query, builder) -> root.get("course").get("id").in(courseIds);
+    }
+}
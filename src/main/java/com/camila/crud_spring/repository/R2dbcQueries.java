@@ -0,0 +1,85 @@
+package com.camila.crud_spring.repository;
+
+import io.r2dbc.spi.Readable;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.stream.Collectors;
+
+/**
+ * SQL fragments shared by the R2DBC read repositories. Sort properties are resolved through a
+ * whitelist of columns so request parameters never reach the statement text.
+ */
+final class R2dbcQueries {
+
+    private static final String ID = "id";
+
+    private R2dbcQueries() {
+    }
+
+    /**
+     * Sort orders with {@code id} appended as tie-breaker, so offsets and keysets are stable.
+     */
+    static List<Sort.Order> orders(Sort sort) {
+        List<Sort.Order> orders = new ArrayList<>(sort.toList());
+        if (orders.stream().noneMatch(order -> ID.equals(order.getProperty()))) {
+            Sort.Direction direction = orders.isEmpty() ? Sort.Direction.ASC : orders.getLast().getDirection();
+            orders.add(new Sort.Order(direction, ID));
+        }
+        return orders;
+    }
+
+    static String orderBy(List<Sort.Order> orders, Map<String, String> columns) {
+        StringJoiner orderBy = new StringJoiner(", ", " ORDER BY ", "");
+        orders.forEach(order -> orderBy.add(column(order.getProperty(), columns) + " " + order.getDirection().name()));
+        return orderBy.toString();
+    }
+
+    /**
+     * Row-value comparison written out as {@code (a > :a OR (a = :a AND b > :b))}, which H2 and
+     * MySQL both evaluate against the composite index.
+     */
+    static String keysetPredicate(List<Sort.Order> orders, Map<String, String> columns) {
+        StringBuilder predicate = new StringBuilder();
+        for (int i = orders.size() - 1; i >= 0; i--) {
+            Sort.Order order = orders.get(i);
+            String column = column(order.getProperty(), columns);
+            String comparison = "%s %s :key_%s".formatted(column, order.isAscending() ? ">" : "<", order.getProperty());
+            predicate = predicate.isEmpty()
+                    ? new StringBuilder(comparison)
+                    : new StringBuilder("(%s OR (%s = :key_%s AND %s))".formatted(comparison, column, order.getProperty(), predicate));
+        }
+        return predicate.toString();
+    }
+
+    /**
+     * Joins the non-empty predicates with {@code AND}; returns an empty string when there are none.
+     */
+    static String where(String... predicates) {
+        String joined = Arrays.stream(predicates)
+                .filter(predicate -> !predicate.isEmpty())
+                .collect(Collectors.joining(" AND "));
+        return joined.isEmpty() ? "" : " WHERE " + joined;
+    }
+
+    static Long getLong(Readable row, String column) {
+        Number value = (Number) row.get(column);
+        return value != null ? value.longValue() : null;
+    }
+
+    static int getInt(Readable row, String column) {
+        return ((Number) row.get(column)).intValue();
+    }
+
+    private static String column(String property, Map<String, String> columns) {
+        String column = columns.get(property);
+        if (column == null) {
+            throw new IllegalArgumentException("Unsupported sort property: " + property);
+        }
+        return column;
+    }
+}
@@ -0,0 +1,94 @@
+package com.camila.crud_spring.repository;
+
+import com.camila.crud_spring.dto.CourseDTO;
+import com.camila.crud_spring.enums.Category;
+import com.camila.crud_spring.enums.Status;
+import io.r2dbc.spi.Readable;
+import lombok.AllArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Non-blocking course reads over R2DBC. A {@code null} status reads courses of every status.
+ */
+@Repository
+@AllArgsConstructor
+public class ReactiveCourseRepository {
+
+    private static final Map<String, String> COLUMNS = Map.of("id", "id", "name", "name", "category", "category");
+    private static final String SELECT = "SELECT id, name, category FROM course";
+
+    private final DatabaseClient databaseClient;
+
+    public Flux<CourseDTO> findCourseDTOs(Status status, Sort sort, long offset, int limit) {
+        String sql = SELECT + where(status) + R2dbcQueries.orderBy(R2dbcQueries.orders(sort), COLUMNS)
+                + " LIMIT :limit OFFSET :offset";
+
+        return bindStatus(databaseClient.sql(sql), status)
+                .bind("limit", limit)
+                .bind("offset", offset)
+                .map(ReactiveCourseRepository::toCourseDTO)
+                .all();
+    }
+
+    public Flux<CourseDTO> findCourseDTOsAfter(Status status, Map<String, ?> keys, Sort sort, int limit) {
+        List<Sort.Order> orders = R2dbcQueries.orders(sort);
+        String keyset = keys.isEmpty() ? "" : R2dbcQueries.keysetPredicate(orders, COLUMNS);
+        String sql = SELECT + where(status, keyset) + R2dbcQueries.orderBy(orders, COLUMNS) + " LIMIT :limit";
+
+        DatabaseClient.GenericExecuteSpec spec = bindStatus(databaseClient.sql(sql), status).bind("limit", limit);
+        for (Map.Entry<String, ?> key : keys.entrySet()) {
+            spec = spec.bind("key_" + key.getKey(), key.getValue());
+        }
+        return spec.map(ReactiveCourseRepository::toCourseDTO).all();
+    }
+
+    public Mono<Long> count(Status status) {
+        return bindStatus(databaseClient.sql("SELECT COUNT(*) AS total FROM course" + where(status)), status)
+                .map(row -> R2dbcQueries.getLong(row, "total"))
+                .one();
+    }
+
+    public Mono<CourseDTO> findCourseDTOById(Long id, Status status) {
+        String sql = SELECT + where(status, "id = :id");
+        return bindStatus(databaseClient.sql(sql), status)
+                .bind("id", id)
+                .map(ReactiveCourseRepository::toCourseDTO)
+                .one();
+    }
+
+    /**
+     * Emits courses ordered by id as the subscriber requests them; the driver fetches further rows
+     * only when there is demand.
+     */
+    public Flux<CourseDTO> streamCourseDTOs(Status status) {
+        return bindStatus(databaseClient.sql(SELECT + where(status) + " ORDER BY id"), status)
+                .map(ReactiveCourseRepository::toCourseDTO)
+                .all();
+    }
+
+    private static String where(Status status) {
+        return where(status, "");
+    }
+
+    private static String where(Status status, String predicate) {
+        return R2dbcQueries.where(status != null ? "status = :status" : "", predicate);
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bindStatus(DatabaseClient.GenericExecuteSpec spec, Status status) {
+        return status != null ? spec.bind("status", status.ordinal()) : spec;
+    }
+
+    private static CourseDTO toCourseDTO(Readable row) {
+        return new CourseDTO(
+                R2dbcQueries.getLong(row, "id"),
+                row.get("name", String.class),
+                Category.values()[R2dbcQueries.getInt(row, "category")]);
+    }
+}
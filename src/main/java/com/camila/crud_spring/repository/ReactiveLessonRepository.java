@@ -0,0 +1,103 @@
+package com.camila.crud_spring.repository;
+
+import com.camila.crud_spring.dto.LessonDTO;
+import io.r2dbc.spi.Readable;
+import lombok.AllArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Non-blocking lesson reads over R2DBC. A {@code null} course id reads lessons of every course.
+ */
+@Repository
+@AllArgsConstructor
+public class ReactiveLessonRepository {
+
+    private static final Map<String, String> COLUMNS = Map.of("id", "id", "name", "name", "youtubeUrl", "youtube_url");
+    private static final String SELECT = "SELECT id, name, youtube_url FROM lesson";
+
+    private final DatabaseClient databaseClient;
+
+    public Flux<LessonDTO> findLessonDTOs(Long courseId, Sort sort, long offset, int limit) {
+        String sql = SELECT + where(courseId, "") + R2dbcQueries.orderBy(R2dbcQueries.orders(sort), COLUMNS)
+                + " LIMIT :limit OFFSET :offset";
+
+        return bindCourseId(databaseClient.sql(sql), courseId)
+                .bind("limit", limit)
+                .bind("offset", offset)
+                .map(ReactiveLessonRepository::toLessonDTO)
+                .all();
+    }
+
+    public Flux<LessonDTO> findLessonDTOsAfter(Long courseId, Map<String, ?> keys, Sort sort, int limit) {
+        List<Sort.Order> orders = R2dbcQueries.orders(sort);
+        String keyset = keys.isEmpty() ? "" : R2dbcQueries.keysetPredicate(orders, COLUMNS);
+        String sql = SELECT + where(courseId, keyset) + R2dbcQueries.orderBy(orders, COLUMNS) + " LIMIT :limit";
+
+        DatabaseClient.GenericExecuteSpec spec = bindCourseId(databaseClient.sql(sql), courseId).bind("limit", limit);
+        for (Map.Entry<String, ?> key : keys.entrySet()) {
+            spec = spec.bind("key_" + key.getKey(), key.getValue());
+        }
+        return spec.map(ReactiveLessonRepository::toLessonDTO).all();
+    }
+
+    public Mono<Long> count(Long courseId) {
+        return bindCourseId(databaseClient.sql("SELECT COUNT(*) AS total FROM lesson" + where(courseId, "")), courseId)
+                .map(row -> R2dbcQueries.getLong(row, "total"))
+                .one();
+    }
+
+    public Mono<LessonDTO> findLessonDTOById(Long id) {
+        return databaseClient.sql(SELECT + " WHERE id = :id")
+                .bind("id", id)
+                .map(ReactiveLessonRepository::toLessonDTO)
+                .one();
+    }
+
+    /**
+     * Lessons of the given courses in id order, keyed by course id. Returns an empty map for an empty
+     * collection.
+     */
+    public Mono<Map<Long, Collection<LessonDTO>>> findLessonDTOsByCourseIds(Collection<Long> courseIds) {
+        if (courseIds.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        return databaseClient.sql("SELECT id, name, youtube_url, course_id FROM lesson WHERE course_id IN (:courseIds) ORDER BY id")
+                .bind("courseIds", courseIds)
+                .map(row -> Map.entry(R2dbcQueries.getLong(row, "course_id"), toLessonDTO(row)))
+                .all()
+                .collectMultimap(Map.Entry::getKey, Map.Entry::getValue);
+    }
+
+    /**
+     * Emits the lessons of a course ordered by id as the subscriber requests them.
+     */
+    public Flux<LessonDTO> streamLessonDTOsByCourseId(Long courseId) {
+        return databaseClient.sql(SELECT + " WHERE course_id = :courseId ORDER BY id")
+                .bind("courseId", courseId)
+                .map(ReactiveLessonRepository::toLessonDTO)
+                .all();
+    }
+
+    private static String where(Long courseId, String predicate) {
+        return R2dbcQueries.where(courseId != null ? "course_id = :courseId" : "", predicate);
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bindCourseId(DatabaseClient.GenericExecuteSpec spec, Long courseId) {
+        return courseId != null ? spec.bind("courseId", courseId) : spec;
+    }
+
+    private static LessonDTO toLessonDTO(Readable row) {
+        return new LessonDTO(
+                R2dbcQueries.getLong(row, "id"),
+                row.get("name", String.class),
+                row.get("youtube_url", String.class));
+    }
+}
@@ -0,0 +1,77 @@
+package com.camila.crud_spring.service;
+
+import com.camila.crud_spring.enums.Status;
+import com.camila.crud_spring.repository.CourseRepository;
+import com.camila.crud_spring.repository.LessonRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+/**
+ * Cached row counts for the count-free listings. A value older than {@code refresh-after} is
+ * still returned while a fresh {@code COUNT(*)} runs in the background, so only the very first
+ * request for a given scope waits for the database. Refreshes run on the application task
+ * executor, which uses virtual threads when {@code spring.threads.virtual.enabled} is set.
+ */
+@Service
+public class ApproximateCountService {
+
+    private static final String ACTIVE_COURSES = "courses:active";
+    private static final String ALL_COURSES = "courses:all";
+    private static final String ALL_LESSONS = "lessons:all";
+    private static final String COURSE_LESSONS = "lessons:course";
+
+    private final CourseRepository courseRepository;
+    private final LessonRepository lessonRepository;
+    private final LoadingCache<CountKey, Long> counts;
+
+    public ApproximateCountService(
+            CourseRepository courseRepository,
+            LessonRepository lessonRepository,
+            @Value("${app.count-cache.refresh-after:30s}") Duration refreshAfter,
+            @Value("${app.count-cache.maximum-size:10000}") long maximumSize,
+            @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) Executor executor) {
+
+        this.courseRepository = courseRepository;
+        this.lessonRepository = lessonRepository;
+        this.counts = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .refreshAfterWrite(refreshAfter)
+                .executor(executor)
+                .build(this::count);
+    }
+
+    public long countActiveCourses() {
+        return counts.get(new CountKey(ACTIVE_COURSES, null));
+    }
+
+    public long countAllCourses() {
+        return counts.get(new CountKey(ALL_COURSES, null));
+    }
+
+    public long countAllLessons() {
+        return counts.get(new CountKey(ALL_LESSONS, null));
+    }
+
+    public long countLessonsByCourse(Long courseId) {
+        return counts.get(new CountKey(COURSE_LESSONS, courseId));
+    }
+
+    private long count(CountKey key) {
+        return switch (key.scope()) {
+            case ACTIVE_COURSES -> courseRepository.countByStatus(Status.ACTIVE);
+            case ALL_COURSES -> courseRepository.count();
+            case ALL_LESSONS -> lessonRepository.count();
+            case COURSE_LESSONS -> lessonRepository.countByCourseId(key.courseId());
+            default -> throw new IllegalStateException("Unexpected count scope: " + key.scope());
+        };
+    }
+
+    private record CountKey(String scope, Long courseId) { }
+}
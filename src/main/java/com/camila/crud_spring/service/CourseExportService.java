@@ -0,0 +1,61 @@
+package com.camila.crud_spring.service;
+
+import com.camila.crud_spring.dto.mapper.CourseMapper;
+import com.camila.crud_spring.enums.ExportFormat;
+import com.camila.crud_spring.model.Course;
+import com.camila.crud_spring.repository.CourseRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes every course with its lessons straight from a database cursor to the output, detaching
+ * each course once it is written so the heap holds a single course at a time.
+ */
+@Service
+@AllArgsConstructor
+public class CourseExportService {
+
+    private final CourseRepository courseRepository;
+    private final CourseMapper courseMapper;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+
+    @Transactional(readOnly = true)
+    public long exportCourses(ExportFormat format, OutputStream output) throws IOException {
+        long exported = 0;
+
+        try (JsonGenerator generator = objectMapper.createGenerator(output);
+             Stream<Course> courses = courseRepository.streamAllWithLessons()) {
+
+            if (format == ExportFormat.JSON) {
+                generator.writeStartArray();
+            } else {
+                generator.setRootValueSeparator(new SerializedString("\n"));
+            }
+
+            Iterator<Course> iterator = courses.iterator();
+            while (iterator.hasNext()) {
+                Course course = iterator.next();
+                generator.writeObject(courseMapper.toCourseWithLessonsResponseDTO(course));
+                entityManager.detach(course);
+                exported++;
+            }
+
+            if (format == ExportFormat.JSON) {
+                generator.writeEndArray();
+            }
+        }
+
+        return exported;
+    }
+}
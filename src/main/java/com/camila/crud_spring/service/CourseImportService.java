@@ -0,0 +1,209 @@
+package com.camila.crud_spring.service;
+
+import com.camila.crud_spring.dto.CourseWithLessonRequestDTO;
+import com.camila.crud_spring.dto.ImportResultDTO;
+import com.camila.crud_spring.dto.ImportSummaryDTO;
+import com.camila.crud_spring.dto.mapper.CourseMapper;
+import com.camila.crud_spring.model.Course;
+import com.camila.crud_spring.repository.CourseRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.hibernate.exception.ConstraintViolationException;
+import org.hibernate.exception.ConstraintViolationException.ConstraintKind;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Imports newline-delimited {@link CourseWithLessonRequestDTO} records. Lines are parsed and
+ * validated one at a time and valid courses are persisted in transactions of
+ * {@code app.import.chunk-size}; the persistence context is cleared after every chunk and each
+ * result is handed to the caller as soon as it is known, so memory does not grow with the upload.
+ */
+@Service
+public class CourseImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(CourseImportService.class);
+
+    private final CourseRepository courseRepository;
+    private final CourseMapper courseMapper;
+    private final LessonSearchIndex lessonSearchIndex;
+    private final ObjectReader reader;
+    private final Validator validator;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public CourseImportService(
+            CourseRepository courseRepository,
+            CourseMapper courseMapper,
+            LessonSearchIndex lessonSearchIndex,
+            ObjectMapper objectMapper,
+            Validator validator,
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.import.chunk-size:500}") int chunkSize) {
+
+        this.courseRepository = courseRepository;
+        this.courseMapper = courseMapper;
+        this.lessonSearchIndex = lessonSearchIndex;
+        this.reader = objectMapper.readerFor(CourseWithLessonRequestDTO.class);
+        this.validator = validator;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    public ImportSummaryDTO importCourses(InputStream input, Consumer<ImportResultDTO> listener) throws IOException {
+        ImportCounter counter = new ImportCounter(listener);
+        List<PendingCourse> chunk = new ArrayList<>(chunkSize);
+
+        BufferedReader lines = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        String line;
+        long lineNumber = 0;
+        while ((line = lines.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+
+            PendingCourse pending = parse(lineNumber, line, counter);
+            if (pending != null) {
+                chunk.add(pending);
+            }
+            if (chunk.size() >= chunkSize) {
+                persist(chunk, counter);
+                chunk.clear();
+            }
+        }
+        persist(chunk, counter);
+
+        return counter.summary();
+    }
+
+    private PendingCourse parse(long lineNumber, String line, ImportCounter counter) {
+        CourseWithLessonRequestDTO courseDTO;
+        try {
+            courseDTO = reader.readValue(line);
+        } catch (JsonProcessingException ex) {
+            counter.accept(ImportResultDTO.failed(lineNumber, List.of("JSON inválido: " + ex.getOriginalMessage())));
+            return null;
+        }
+
+        Set<ConstraintViolation<CourseWithLessonRequestDTO>> violations = validator.validate(courseDTO);
+        if (!violations.isEmpty()) {
+            counter.accept(ImportResultDTO.failed(lineNumber, violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .toList()));
+            return null;
+        }
+
+        Course course = courseMapper.toCourse(courseDTO);
+        course.setId(null);
+        course.getLessons().forEach(lesson -> lesson.setId(null));
+        return new PendingCourse(lineNumber, course);
+    }
+
+    private void persist(List<PendingCourse> chunk, ImportCounter counter) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<Course> savedCourses = transactionTemplate.execute(status -> save(chunk));
+            for (int i = 0; i < chunk.size(); i++) {
+                counter.accept(ImportResultDTO.created(chunk.get(i).line(), savedCourses.get(i).getId()));
+            }
+        } catch (RuntimeException ex) {
+            chunk.forEach(pending -> persistSingle(pending, counter));
+        }
+    }
+
+    // The failed chunk already assigned ids and versions; with a version left set, save would
+    // merge a copy instead of persisting the course, so both are cleared before retrying alone.
+    private void persistSingle(PendingCourse pending, ImportCounter counter) {
+        pending.course().setId(null);
+        pending.course().setVersion(null);
+        pending.course().getLessons().forEach(lesson -> {
+            lesson.setId(null);
+            lesson.setVersion(null);
+        });
+        try {
+            List<Course> savedCourses = transactionTemplate.execute(status -> save(List.of(pending)));
+            counter.accept(ImportResultDTO.created(pending.line(), savedCourses.getFirst().getId()));
+        } catch (RuntimeException ex) {
+            log.warn("Import of line {} failed", pending.line(), ex);
+            counter.accept(ImportResultDTO.failed(pending.line(), List.of(saveError(ex))));
+        }
+    }
+
+    // The database message carries SQL, constraint names and values, so it is only logged and the
+    // client gets a fixed message per kind of failure.
+    private static String saveError(RuntimeException ex) {
+        if (ex instanceof DuplicateKeyException
+                || ex.getCause() instanceof ConstraintViolationException violation && violation.getKind() == ConstraintKind.UNIQUE) {
+            return "Curso ou lição já cadastrado";
+        }
+        if (ex instanceof DataIntegrityViolationException) {
+            return "Curso viola uma restrição do banco de dados";
+        }
+        return "Erro ao salvar curso";
+    }
+
+    private List<Course> save(List<PendingCourse> courses) {
+        List<Course> savedCourses = courses.stream()
+                .map(pending -> courseRepository.save(pending.course()))
+                .toList();
+        savedCourses.forEach(lessonSearchIndex::indexCourse);
+        // Flushed through the repository so database errors arrive translated to DataAccessException.
+        courseRepository.flush();
+        entityManager.clear();
+        return savedCourses;
+    }
+
+    private record PendingCourse(long line, Course course) { }
+
+    private static final class ImportCounter implements Consumer<ImportResultDTO> {
+
+        private final Consumer<ImportResultDTO> listener;
+        private long created;
+        private long failed;
+
+        private ImportCounter(Consumer<ImportResultDTO> listener) {
+            this.listener = listener;
+        }
+
+        @Override
+        public void accept(ImportResultDTO result) {
+            switch (result.status()) {
+                case CREATED -> created++;
+                case FAILED -> failed++;
+            }
+            listener.accept(result);
+        }
+
+        private ImportSummaryDTO summary() {
+            return new ImportSummaryDTO(created + failed, created, failed);
+        }
+    }
+}
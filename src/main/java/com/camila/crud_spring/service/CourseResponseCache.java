@@ -0,0 +1,28 @@
+package com.camila.crud_spring.service;
+
+import lombok.AllArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+@Component
+@AllArgsConstructor
+public class CourseResponseCache {
+
+    public static final String ACTIVE_COURSE_WITH_LESSONS = "activeCourseWithLessons";
+    public static final String COURSE_WITH_LESSONS = "courseWithLessons";
+
+    private final CacheManager cacheManager;
+
+    public void evict(Long courseId) {
+        evict(ACTIVE_COURSE_WITH_LESSONS, courseId);
+        evict(COURSE_WITH_LESSONS, courseId);
+    }
+
+    private void evict(String cacheName, Long courseId) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(courseId);
+        }
+    }
+}
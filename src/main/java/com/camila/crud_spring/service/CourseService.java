@@ -1,94 +1,391 @@
 package com.camila.crud_spring.service;
 
+import com.camila.crud_spring.dto.BatchResultDTO;
+import com.camila.crud_spring.dto.CourseDTO;
+import com.camila.crud_spring.dto.CourseWithLessonsResponseDTO;
+import com.camila.crud_spring.dto.mapper.CourseMapper;
+import com.camila.crud_spring.dto.mapper.FieldsMapper.CourseWithLessonsFields;
+import com.camila.crud_spring.enums.Category;
+import com.camila.crud_spring.enums.CountMode;
 import com.camila.crud_spring.enums.Status;
+import com.camila.crud_spring.exception.PreconditionFailedException;
 import com.camila.crud_spring.exception.RecordNotFoundException;
 import com.camila.crud_spring.model.Course;
+import com.camila.crud_spring.model.Lesson;
 import com.camila.crud_spring.repository.CourseRepository;
+import com.camila.crud_spring.repository.CourseSpecifications;
+import com.camila.crud_spring.repository.FieldProjectionRepository;
+import com.camila.crud_spring.repository.LessonRepository;
+import com.camila.crud_spring.repository.LessonSpecifications;
+import io.micrometer.core.annotation.Timed;
 import lombok.AllArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static com.camila.crud_spring.service.OptimisticUpdateExecutor.merge;
+
 @Service
+@Timed(value = "app.service", histogram = true)
 @AllArgsConstructor
 @Transactional(readOnly = true)
 @SuppressWarnings("java:S1192")
 public class CourseService {
 
+    private static final String COURSE_ID_FIELD = "_id";
+    private static final String LESSON_COURSE_ID_FIELD = "courseId";
+
     private final CourseRepository courseRepository;
+    private final LessonRepository lessonRepository;
+    private final ApproximateCountService approximateCountService;
+    private final CourseMapper courseMapper;
+    private final LessonSearchIndex lessonSearchIndex;
+    private final OptimisticUpdateExecutor optimisticUpdateExecutor;
+    private final FieldProjectionRepository fieldProjectionRepository;
+
+    public Page<CourseDTO> listActiveCourses(Pageable pageable) {
+        return courseRepository.findCourseDTOsByStatus(Status.ACTIVE, pageable);
+    }
+
+    public Page<Map<String, Object>> listActiveCourses(Pageable pageable, Map<String, String> fields) {
+        return fieldProjectionRepository.findAll(Course.class, CourseSpecifications.hasStatus(Status.ACTIVE), fields, pageable);
+    }
+
+    public Slice<CourseDTO> sliceActiveCourses(Pageable pageable) {
+        return courseRepository.findCourseDTOSliceByStatus(Status.ACTIVE, pageable);
+    }
+
+    public Long countActiveCourses(CountMode countMode) {
+        return switch (countMode) {
+            case NONE -> null;
+            case APPROXIMATE -> approximateCountService.countActiveCourses();
+            case EXACT -> courseRepository.countByStatus(Status.ACTIVE);
+        };
+    }
 
-    public Page<Course> listActiveCourses(Pageable pageable) {
-        return courseRepository.findByStatus(Status.ACTIVE, pageable);
+    public Window<Course> scrollActiveCourses(ScrollPosition position, Sort sort, int size) {
+        return courseRepository.findByStatus(Status.ACTIVE, position, sort, Limit.of(size));
     }
 
     public Page<Course> listActiveCoursesWithLessons(Pageable pageable) {
         return courseRepository.findByStatusWithLessons(Status.ACTIVE, pageable);
     }
 
-    public Page<Course> listAllCourses(Pageable pageable) {
-        return courseRepository.findAll(pageable);
+    /**
+     * Sparse variant of the with-lessons page. The course page selects only the requested course
+     * columns; the lessons of every course on the page are then read in one query, and only when
+     * lesson fields were asked for.
+     */
+    public Page<Map<String, Object>> listActiveCoursesWithLessons(Pageable pageable, CourseWithLessonsFields fields) {
+        Map<String, String> courseFields = new LinkedHashMap<>(fields.course());
+        courseFields.putIfAbsent(COURSE_ID_FIELD, "id");
+        Page<Map<String, Object>> courses = fieldProjectionRepository.findAll(
+                Course.class, CourseSpecifications.hasStatus(Status.ACTIVE), courseFields, pageable);
+
+        Map<Object, List<Map<String, Object>>> lessonsByCourse = fields.lessons().isEmpty() || courses.isEmpty()
+                ? Map.of()
+                : findLessonFieldsByCourse(courses.map(course -> course.get(COURSE_ID_FIELD)).getContent(), fields.lessons());
+
+        return courses.map(course -> {
+            Object courseId = fields.course().containsKey(COURSE_ID_FIELD)
+                    ? course.get(COURSE_ID_FIELD)
+                    : course.remove(COURSE_ID_FIELD);
+
+            Map<String, Object> courseWithLessons = new LinkedHashMap<>();
+            if (!fields.course().isEmpty()) {
+                courseWithLessons.put("course", course);
+            }
+            if (!fields.lessons().isEmpty()) {
+                courseWithLessons.put("lessons", lessonsByCourse.getOrDefault(courseId, List.of()));
+            }
+            return courseWithLessons;
+        });
+    }
+
+    private Map<Object, List<Map<String, Object>>> findLessonFieldsByCourse(List<Object> courseIds, Map<String, String> fields) {
+        Map<String, String> lessonFields = new LinkedHashMap<>(fields);
+        lessonFields.put(LESSON_COURSE_ID_FIELD, "course.id");
+
+        return fieldProjectionRepository.findAll(
+                        Lesson.class,
+                        LessonSpecifications.hasCourseIdIn(courseIds.stream().map(Long.class::cast).toList()),
+                        lessonFields,
+                        Sort.by("id"))
+                .stream()
+                .collect(Collectors.groupingBy(
+                        lesson -> lesson.remove(LESSON_COURSE_ID_FIELD), LinkedHashMap::new, Collectors.toList()));
+    }
+
+    public Page<CourseDTO> listAllCourses(Pageable pageable) {
+        return courseRepository.findAllCourseDTOs(pageable);
+    }
+
+    public Page<Map<String, Object>> listAllCourses(Pageable pageable, Map<String, String> fields) {
+        return fieldProjectionRepository.findAll(Course.class, null, fields, pageable);
+    }
+
+    public Slice<CourseDTO> sliceAllCourses(Pageable pageable) {
+        return courseRepository.findAllCourseDTOSlice(pageable);
+    }
+
+    public Long countAllCourses(CountMode countMode) {
+        return switch (countMode) {
+            case NONE -> null;
+            case APPROXIMATE -> approximateCountService.countAllCourses();
+            case EXACT -> courseRepository.count();
+        };
+    }
+
+    public Window<Course> scrollAllCourses(ScrollPosition position, Sort sort, int size) {
+        return courseRepository.findAllBy(position, sort, Limit.of(size));
     }
 
     public Page<Course> listAllCoursesWithLessons(Pageable pageable) {
         return courseRepository.findAllWithLessons(pageable);
     }
 
-    public Course findActiveById(Long id) {
-        return courseRepository.findByIdAndStatus(id, Status.ACTIVE)
+    public Page<CourseDTO> searchCourses(Status status, Category category, String namePrefix, Pageable pageable) {
+        return courseRepository.findAll(CourseSpecifications.search(status, category, namePrefix), pageable)
+                .map(courseMapper::toCourseDTO);
+    }
+
+    public Page<Map<String, Object>> searchCourses(
+            Status status, Category category, String namePrefix, Pageable pageable, Map<String, String> fields) {
+
+        return fieldProjectionRepository.findAll(
+                Course.class, CourseSpecifications.search(status, category, namePrefix), fields, pageable);
+    }
+
+    public CourseDTO findActiveById(Long id) {
+        return courseRepository.findCourseDTOByIdAndStatus(id, Status.ACTIVE)
                 .orElseThrow(() -> new RecordNotFoundException("Curso não encontrado com id: ", id));
     }
 
+    public Map<String, Object> findActiveById(Long id, Map<String, String> fields) {
+        Specification<Course> activeCourse = Specification.allOf(
+                CourseSpecifications.hasId(id), CourseSpecifications.hasStatus(Status.ACTIVE));
+
+        return fieldProjectionRepository.findOne(Course.class, activeCourse, fields)
+                .orElseThrow(() -> new RecordNotFoundException("Curso não encontrado com id: ", id));
+    }
+
+    public BatchResultDTO<CourseDTO> findActiveByIds(Collection<Long> ids) {
+        return BatchResultDTO.of(ids, courseRepository.findCourseDTOsByIdInAndStatus(ids, Status.ACTIVE), CourseDTO::id);
+    }
+
+    public BatchResultDTO<CourseWithLessonsResponseDTO> findActiveByIdsWithLessons(Collection<Long> ids) {
+        List<CourseWithLessonsResponseDTO> courses = courseRepository.findAllWithLessonsByIdInAndStatus(ids, Status.ACTIVE).stream()
+                .map(courseMapper::toCourseWithLessonsResponseDTO)
+                .toList();
+        return BatchResultDTO.of(ids, courses, course -> course.course().id());
+    }
+
     public Course findActiveByIdWithLessons(Long id) {
         return courseRepository.findByIdAndStatusWithLessons(id, Status.ACTIVE)
                 .orElseThrow(() -> new RecordNotFoundException("Curso não encontrado com id: ", id));
     }
 
+    public Long findActiveCourseVersion(Long id) {
+        return courseRepository.findVersionByIdAndStatus(id, Status.ACTIVE)
+                .orElseThrow(() -> new RecordNotFoundException("Curso não encontrado com id: ", id));
+    }
+
+    public Long findCourseVersion(Long id) {
+        return courseRepository.findVersionById(id)
+                .orElseThrow(() -> new RecordNotFoundException("Curso não encontrado com id: ", id));
+    }
+
+    @Cacheable(cacheNames = CourseResponseCache.ACTIVE_COURSE_WITH_LESSONS, key = "#id")
+    public CourseWithLessonsResponseDTO getActiveCourseWithLessons(Long id) {
+        return courseMapper.toCourseWithLessonsResponseDTO(findActiveByIdWithLessons(id));
+    }
+
+    @CachePut(cacheNames = CourseResponseCache.ACTIVE_COURSE_WITH_LESSONS, key = "#id")
+    public CourseWithLessonsResponseDTO reloadActiveCourseWithLessons(Long id) {
+        return courseMapper.toCourseWithLessonsResponseDTO(findActiveByIdWithLessons(id));
+    }
+
+    @Cacheable(cacheNames = CourseResponseCache.COURSE_WITH_LESSONS, key = "#id")
+    public CourseWithLessonsResponseDTO getCourseWithLessons(Long id) {
+        return loadCourseWithLessons(id);
+    }
+
+    @CachePut(cacheNames = CourseResponseCache.COURSE_WITH_LESSONS, key = "#id")
+    public CourseWithLessonsResponseDTO reloadCourseWithLessons(Long id) {
+        return loadCourseWithLessons(id);
+    }
+
+    private CourseWithLessonsResponseDTO loadCourseWithLessons(Long id) {
+        return courseRepository.findByIdWithLessons(id)
+                .map(courseMapper::toCourseWithLessonsResponseDTO)
+                .orElseThrow(() -> new RecordNotFoundException("Curso não encontrado com id: ", id));
+    }
+
     @Transactional
     public Course createCourse(Course course) {
-        return courseRepository.save(course);
+        Course savedCourse = courseRepository.save(course);
+        lessonSearchIndex.indexCourse(savedCourse);
+        return savedCourse;
     }
 
-    @Transactional
-    public Course updateCourse(Long id, Course courseData) {
-        return courseRepository.findByIdWithLessons(id)
-                .map(existingCourse -> {
-                    existingCourse.setName(courseData.getName());
-                    existingCourse.setCategory(courseData.getCategory());
-                    if (courseData.getStatus() != null) {
-                        existingCourse.setStatus(courseData.getStatus());
-                    }
+    /**
+     * Replaces the course and its lessons. With {@code expectedVersion} (from If-Match) the update
+     * only applies to that version. When another write commits while this one is in flight, the
+     * update is retried on the new state and merged field by field: changes to different fields
+     * (name, category, status, the lesson list) are combined, and the same field changed both ways
+     * fails the precondition. Without {@code expectedVersion} the last write wins, as before.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @CacheEvict(cacheNames = {CourseResponseCache.ACTIVE_COURSE_WITH_LESSONS, CourseResponseCache.COURSE_WITH_LESSONS}, key = "#id")
+    public Course updateCourse(Long id, Course courseData, Long expectedVersion) {
+        CourseState requested = CourseState.of(courseData);
+        AtomicReference<CourseState> base = new AtomicReference<>();
 
-                    existingCourse.getLessons().clear();
+        try {
+            return optimisticUpdateExecutor.execute(attempt -> {
+                // Lesson rows do not make the course dirty, so the course is loaded for a version
+                // increment first and every accepted PUT moves its version, whichever part changed.
+                Course existingCourse = courseRepository.findByIdIncrementingVersion(id)
+                        .flatMap(course -> courseRepository.findByIdWithLessons(id))
+                        .orElseThrow(() -> new RecordNotFoundException("Curso não encontrado com id: ", id));
 
-                    if (courseData.getLessons() != null && !courseData.getLessons().isEmpty()) {
-                        courseData.getLessons().forEach(lesson -> {
-                            lesson.setCourse(existingCourse);
-                            existingCourse.getLessons().add(lesson);
-                        });
+                if (attempt == 1) {
+                    if (expectedVersion != null && !expectedVersion.equals(existingCourse.getVersion())) {
+                        throw versionConflict(id);
                     }
+                    base.set(CourseState.of(existingCourse));
+                }
 
-                    return courseRepository.save(existingCourse);
-                })
-                .orElseThrow(() -> new RecordNotFoundException("Curso não encontrado com id: ", id));
+                applyUpdate(existingCourse, courseData, requested,
+                        expectedVersion == null ? CourseState.of(existingCourse) : base.get());
+
+                Course savedCourse = courseRepository.save(existingCourse);
+                lessonSearchIndex.indexCourse(savedCourse);
+                return savedCourse;
+            });
+        } catch (OptimisticLockingFailureException ex) {
+            if (expectedVersion != null) {
+                throw versionConflict(id);
+            }
+            throw ex;
+        }
+    }
+
+    private void applyUpdate(Course course, Course courseData, CourseState requested, CourseState base) {
+        CourseState current = CourseState.of(course);
+        Supplier<PreconditionFailedException> conflict = () -> versionConflict(course.getId());
+
+        course.setName(merge(base.name(), current.name(), requested.name(), conflict));
+        course.setCategory(merge(base.category(), current.category(), requested.category(), conflict));
+        if (requested.status() != null) {
+            course.setStatus(merge(base.status(), current.status(), requested.status(), conflict));
+        }
+
+        if (!requested.lessons().equals(base.lessons())) {
+            merge(base.lessons(), current.lessons(), requested.lessons(), conflict);
+            syncLessons(course, courseData.getLessons());
+        }
+    }
+
+    // Lessons are matched by id so unchanged rows are left alone and ids stay stable: known ids are
+    // updated in place, lessons without a known id are inserted and the ones not sent are removed.
+    private void syncLessons(Course course, List<Lesson> requestedLessons) {
+        Map<Long, Lesson> missingLessons = course.getLessons().stream()
+                .collect(Collectors.toMap(Lesson::getId, Function.identity()));
+
+        if (requestedLessons != null) {
+            requestedLessons.forEach(lesson -> {
+                Lesson existingLesson = lesson.getId() == null ? null : missingLessons.remove(lesson.getId());
+                if (existingLesson != null) {
+                    existingLesson.setName(lesson.getName());
+                    existingLesson.setYoutubeUrl(lesson.getYoutubeUrl());
+                } else {
+                    lesson.setId(null);
+                    lesson.setCourse(course);
+                    course.getLessons().add(lesson);
+                }
+            });
+        }
+
+        course.getLessons().removeIf(lesson -> lesson.getId() != null && missingLessons.containsKey(lesson.getId()));
     }
 
     @Transactional
+    @CacheEvict(cacheNames = {CourseResponseCache.ACTIVE_COURSE_WITH_LESSONS, CourseResponseCache.COURSE_WITH_LESSONS}, key = "#id")
     public void hardDeleteCourse(Long id) {
-        Course course = courseRepository.findById(id)
-                .orElseThrow(() -> new RecordNotFoundException("Curso não encontrado com id: ", id));
-        courseRepository.delete(course);
+        lessonRepository.deleteByCourseIdIn(List.of(id));
+        if (courseRepository.hardDeleteByIdIn(List.of(id)) == 0) {
+            throw new RecordNotFoundException("Curso não encontrado com id: ", id);
+        }
+        lessonSearchIndex.removeCourses(List.of(id));
     }
 
     @Transactional
+    @CacheEvict(cacheNames = {CourseResponseCache.ACTIVE_COURSE_WITH_LESSONS, CourseResponseCache.COURSE_WITH_LESSONS}, allEntries = true)
+    public int hardDeleteCourses(Collection<Long> ids) {
+        lessonRepository.deleteByCourseIdIn(ids);
+        lessonSearchIndex.removeCourses(ids);
+        return courseRepository.hardDeleteByIdIn(ids);
+    }
+
+    @Transactional
+    @CacheEvict(cacheNames = {CourseResponseCache.ACTIVE_COURSE_WITH_LESSONS, CourseResponseCache.COURSE_WITH_LESSONS}, key = "#id")
     public void softDeleteCourse(Long id) {
-        Course course = courseRepository.findById(id)
-                .orElseThrow(() -> new RecordNotFoundException("Curso não encontrado com id: ", id));
-        course.setStatus(Status.INACTIVE);
-        courseRepository.save(course);
+        if (courseRepository.updateStatusByIdIn(List.of(id), Status.INACTIVE) == 0) {
+            throw new RecordNotFoundException("Curso não encontrado com id: ", id);
+        }
+    }
+
+    @Transactional
+    @CacheEvict(cacheNames = {CourseResponseCache.ACTIVE_COURSE_WITH_LESSONS, CourseResponseCache.COURSE_WITH_LESSONS}, allEntries = true)
+    public int updateStatus(Collection<Long> ids, Category category, Status status) {
+        return category != null
+                ? courseRepository.updateStatusByCategory(category, status)
+                : courseRepository.updateStatusByIdIn(ids, status);
     }
 
     public boolean validateIdConsistency(Long pathId, Course course) {
         return course.getId() == null || course.getId().equals(pathId);
     }
+
+    private static PreconditionFailedException versionConflict(Long id) {
+        return new PreconditionFailedException("Curso alterado desde a versão informada, id: " + id);
+    }
+
+    private record CourseState(String name, Category category, Status status, Set<LessonState> lessons) {
+
+        static CourseState of(Course course) {
+            Set<LessonState> lessons = course.getLessons() == null
+                    ? Set.of()
+                    : course.getLessons().stream()
+                            .map(lesson -> new LessonState(lesson.getId(), lesson.getName(), lesson.getYoutubeUrl()))
+                            .collect(Collectors.toSet());
+            return new CourseState(course.getName(), course.getCategory(), course.getStatus(), lessons);
+        }
+    }
+
+    private record LessonState(Long id, String name, String youtubeUrl) {
+    }
 }
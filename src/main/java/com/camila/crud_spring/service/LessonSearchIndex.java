@@ -0,0 +1,232 @@
+package com.camila.crud_spring.service;
+
+import com.camila.crud_spring.model.Course;
+import com.camila.crud_spring.model.Lesson;
+import com.camila.crud_spring.repository.LessonRepository;
+import jakarta.annotation.PreDestroy;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.WindowIterator;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * In-memory Lucene index over lesson names, so name searches are served by an inverted index
+ * instead of a {@code LIKE '%x%'} scan. Rebuilt from the database once the application is ready
+ * and kept in step by the services after their writes commit. Results are ranked by BM25: whole
+ * words score above prefixes of longer words, and every word of the query has to match.
+ */
+@Component
+public class LessonSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(LessonSearchIndex.class);
+
+    private static final String ID = "id";
+    private static final String COURSE_ID = "courseId";
+    private static final String NAME = "name";
+    private static final int REBUILD_BATCH_SIZE = 1000;
+    private static final float EXACT_TERM_BOOST = 2f;
+
+    private final LessonRepository lessonRepository;
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+
+    public LessonSearchIndex(LessonRepository lessonRepository) throws IOException {
+        this.lessonRepository = lessonRepository;
+        this.writer = new IndexWriter(new ByteBuffersDirectory(), new IndexWriterConfig(analyzer));
+        this.searcherManager = new SearcherManager(writer, null);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.nanoTime();
+        try {
+            writer.deleteAll();
+            WindowIterator<Lesson> lessons = WindowIterator
+                    .of(position -> lessonRepository.findAllBy(position, Sort.by(ID), Limit.of(REBUILD_BATCH_SIZE)))
+                    .startingAt(ScrollPosition.keyset());
+            while (lessons.hasNext()) {
+                Lesson lesson = lessons.next();
+                writer.addDocument(toDocument(lesson.getId(), lesson.getCourse().getId(), lesson.getName()));
+            }
+            refresh();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        log.info("Indexed {} lessons for search in {} ms", writer.getDocStats().numDocs, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    public void index(Lesson lesson) {
+        Long id = lesson.getId();
+        Long courseId = lesson.getCourse().getId();
+        String name = lesson.getName();
+        afterCommit(() -> {
+            writer.updateDocument(new Term(ID, id.toString()), toDocument(id, courseId, name));
+            refresh();
+        });
+    }
+
+    public void remove(Long lessonId) {
+        afterCommit(() -> {
+            writer.deleteDocuments(new Term(ID, lessonId.toString()));
+            refresh();
+        });
+    }
+
+    /**
+     * Replaces every indexed lesson of the course with its current lessons.
+     */
+    public void indexCourse(Course course) {
+        afterCommit(() -> {
+            writer.deleteDocuments(new Term(COURSE_ID, course.getId().toString()));
+            for (Lesson lesson : course.getLessons()) {
+                writer.addDocument(toDocument(lesson.getId(), course.getId(), lesson.getName()));
+            }
+            refresh();
+        });
+    }
+
+    public void removeCourses(Collection<Long> courseIds) {
+        afterCommit(() -> {
+            writer.deleteDocuments(courseIds.stream().map(id -> new Term(COURSE_ID, id.toString())).toArray(Term[]::new));
+            refresh();
+        });
+    }
+
+    /**
+     * Returns the ids of the lessons matching {@code text}, best match first.
+     */
+    public Page<Long> search(String text, Pageable pageable) {
+        Query query = toQuery(text);
+        if (query == null) {
+            return Page.empty(pageable);
+        }
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs topDocs = searcher.search(query, (int) Math.min(pageable.getOffset() + pageable.getPageSize(), Integer.MAX_VALUE));
+                List<Long> ids = new ArrayList<>();
+                ScoreDoc[] hits = topDocs.scoreDocs;
+                for (int i = (int) pageable.getOffset(); i < hits.length; i++) {
+                    ids.add(searcher.storedFields().document(hits[i].doc).getField(ID).numericValue().longValue());
+                }
+                long total = topDocs.totalHits.relation == TotalHits.Relation.EQUAL_TO
+                        ? topDocs.totalHits.value
+                        : searcher.count(query);
+                return new PageImpl<>(ids, pageable, total);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+    }
+
+    private Query toQuery(String text) {
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        boolean empty = true;
+        try (TokenStream tokens = analyzer.tokenStream(NAME, text)) {
+            CharTermAttribute term = tokens.addAttribute(CharTermAttribute.class);
+            tokens.reset();
+            while (tokens.incrementToken()) {
+                Term word = new Term(NAME, term.toString());
+                query.add(new BooleanQuery.Builder()
+                        .add(new BoostQuery(new TermQuery(word), EXACT_TERM_BOOST), BooleanClause.Occur.SHOULD)
+                        .add(new PrefixQuery(word), BooleanClause.Occur.SHOULD)
+                        .build(), BooleanClause.Occur.MUST);
+                empty = false;
+            }
+            tokens.end();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return empty ? null : query.build();
+    }
+
+    private static Document toDocument(Long id, Long courseId, String name) {
+        Document document = new Document();
+        document.add(new StringField(ID, id.toString(), Field.Store.NO));
+        document.add(new StoredField(ID, id));
+        document.add(new StringField(COURSE_ID, courseId.toString(), Field.Store.NO));
+        document.add(new TextField(NAME, name, Field.Store.NO));
+        return document;
+    }
+
+    private void refresh() throws IOException {
+        searcherManager.maybeRefreshBlocking();
+    }
+
+    // Writes made inside a transaction only reach the index once it commits, so a rollback
+    // never leaves lessons searchable that are not in the database.
+    private void afterCommit(IndexUpdate update) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(update);
+                }
+            });
+        } else {
+            apply(update);
+        }
+    }
+
+    private static void apply(IndexUpdate update) {
+        try {
+            update.run();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @FunctionalInterface
+    private interface IndexUpdate {
+        void run() throws IOException;
+    }
+}
@@ -1,61 +1,214 @@
 package com.camila.crud_spring.service;
 
+import com.camila.crud_spring.dto.BatchResultDTO;
+import com.camila.crud_spring.dto.LessonDTO;
+import com.camila.crud_spring.enums.CountMode;
+import com.camila.crud_spring.exception.PreconditionFailedException;
 import com.camila.crud_spring.exception.RecordNotFoundException;
-import com.camila.crud_spring.model.Course;
 import com.camila.crud_spring.model.Lesson;
 import com.camila.crud_spring.repository.CourseRepository;
+import com.camila.crud_spring.repository.FieldProjectionRepository;
 import com.camila.crud_spring.repository.LessonRepository;
+import com.camila.crud_spring.repository.LessonSpecifications;
+import io.micrometer.core.annotation.Timed;
 import lombok.AllArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static com.camila.crud_spring.service.OptimisticUpdateExecutor.merge;
 
 @Service
+@Timed(value = "app.service", histogram = true)
 @AllArgsConstructor
 @SuppressWarnings("java:S1192")
 public class LessonService {
 
     private final LessonRepository lessonRepository;
     private final CourseRepository courseRepository;
+    private final ApproximateCountService approximateCountService;
+    private final CourseResponseCache courseResponseCache;
+    private final LessonSearchIndex lessonSearchIndex;
+    private final OptimisticUpdateExecutor optimisticUpdateExecutor;
+    private final FieldProjectionRepository fieldProjectionRepository;
+
+    public Page<LessonDTO> listAllLessons(Pageable pageable) {
+        return lessonRepository.findAllLessonDTOs(pageable);
+    }
+
+    public Page<Map<String, Object>> listAllLessons(Pageable pageable, Map<String, String> fields) {
+        return fieldProjectionRepository.findAll(Lesson.class, null, fields, pageable);
+    }
+
+    public Slice<LessonDTO> sliceAllLessons(Pageable pageable) {
+        return lessonRepository.findAllLessonDTOSlice(pageable);
+    }
+
+    public Long countAllLessons(CountMode countMode) {
+        return switch (countMode) {
+            case NONE -> null;
+            case APPROXIMATE -> approximateCountService.countAllLessons();
+            case EXACT -> lessonRepository.count();
+        };
+    }
+
+    public Window<Lesson> scrollAllLessons(ScrollPosition position, Sort sort, int size) {
+        return lessonRepository.findAllBy(position, sort, Limit.of(size));
+    }
+
+    public Page<LessonDTO> listLessonsByCourse(Long courseId, Pageable pageable) {
+        return lessonRepository.findLessonDTOsByCourseId(courseId, pageable);
+    }
+
+    public Page<Map<String, Object>> listLessonsByCourse(Long courseId, Pageable pageable, Map<String, String> fields) {
+        return fieldProjectionRepository.findAll(Lesson.class, LessonSpecifications.hasCourseId(courseId), fields, pageable);
+    }
+
+    public Slice<LessonDTO> sliceLessonsByCourse(Long courseId, Pageable pageable) {
+        return lessonRepository.findLessonDTOSliceByCourseId(courseId, pageable);
+    }
+
+    public Long countLessonsByCourse(Long courseId, CountMode countMode) {
+        return switch (countMode) {
+            case NONE -> null;
+            case APPROXIMATE -> approximateCountService.countLessonsByCourse(courseId);
+            case EXACT -> lessonRepository.countByCourseId(courseId);
+        };
+    }
 
-    public Page<Lesson> listAllLessons(Pageable pageable) {
-        return lessonRepository.findAll(pageable);
+    public Window<Lesson> scrollLessonsByCourse(Long courseId, ScrollPosition position, Sort sort, int size) {
+        return lessonRepository.findByCourseId(courseId, position, sort, Limit.of(size));
     }
 
-    public Page<Lesson> listLessonsByCourse(Long courseId, Pageable pageable) {
-        return lessonRepository.findByCourseId(courseId, pageable);
+    public Page<LessonDTO> searchLessons(String query, Pageable pageable) {
+        Page<Long> ids = lessonSearchIndex.search(query, pageable);
+        if (ids.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, ids.getTotalElements());
+        }
+        Map<Long, LessonDTO> lessons = lessonRepository.findLessonDTOsByIdIn(ids.getContent()).stream()
+                .collect(Collectors.toMap(LessonDTO::id, Function.identity()));
+        List<LessonDTO> ranked = ids.stream().map(lessons::get).filter(Objects::nonNull).toList();
+        return new PageImpl<>(ranked, pageable, ids.getTotalElements());
     }
 
-    public Lesson findById(Long id) {
-        return lessonRepository.findById(id)
+    public LessonDTO findById(Long id) {
+        return lessonRepository.findLessonDTOById(id)
                 .orElseThrow(() -> new RecordNotFoundException("Lição não encontrada com id: ", id));
     }
 
-    public Lesson createLesson(Lesson lesson, Long courseId) {
-        Course course = courseRepository.findById(courseId)
-                .orElseThrow(() -> new RecordNotFoundException("Curso não encontrado com id: ", courseId));
+    public Map<String, Object> findById(Long id, Map<String, String> fields) {
+        return fieldProjectionRepository.findOne(Lesson.class, LessonSpecifications.hasId(id), fields)
+                .orElseThrow(() -> new RecordNotFoundException("Lição não encontrada com id: ", id));
+    }
 
-        lesson.setCourse(course);
-        return lessonRepository.save(lesson);
+    public BatchResultDTO<LessonDTO> findByIds(Collection<Long> ids) {
+        return BatchResultDTO.of(ids, lessonRepository.findLessonDTOsByIdIn(ids), LessonDTO::id);
     }
 
-    public Lesson updateLesson(Long id, Lesson lessonData) {
-        return lessonRepository.findById(id)
-                .map(existingLesson -> {
-                    existingLesson.setName(lessonData.getName());
-                    existingLesson.setYoutubeUrl(lessonData.getYoutubeUrl());
-                    return lessonRepository.save(existingLesson);
-                })
+    public Long findVersionById(Long id) {
+        return lessonRepository.findVersionById(id)
                 .orElseThrow(() -> new RecordNotFoundException("Lição não encontrada com id: ", id));
     }
 
+    @Transactional
+    public Lesson createLesson(Lesson lesson, Long courseId) {
+        if (!courseRepository.existsById(courseId)) {
+            throw new RecordNotFoundException("Curso não encontrado com id: ", courseId);
+        }
+
+        // A reference, so the course is first read when its version is bumped and is never stale.
+        lesson.setCourse(courseRepository.getReferenceById(courseId));
+        Lesson savedLesson = lessonRepository.save(lesson);
+        courseResponseCache.evict(courseId);
+        lessonSearchIndex.index(savedLesson);
+        incrementCourseVersion(courseId);
+        return savedLesson;
+    }
+
+    /**
+     * Updates the lesson's name and URL, optionally only from {@code expectedVersion} (If-Match).
+     * A write that commits in between is merged per field, as {@link CourseService#updateCourse}
+     * does; that includes a course PUT that changed the same lesson.
+     */
+    public Lesson updateLesson(Long id, Lesson lessonData, Long expectedVersion) {
+        AtomicReference<LessonState> base = new AtomicReference<>();
+
+        try {
+            return optimisticUpdateExecutor.execute(attempt -> {
+                Lesson existingLesson = lessonRepository.findById(id)
+                        .orElseThrow(() -> new RecordNotFoundException("Lição não encontrada com id: ", id));
+
+                if (attempt == 1) {
+                    if (expectedVersion != null && !expectedVersion.equals(existingLesson.getVersion())) {
+                        throw versionConflict(id);
+                    }
+                    base.set(LessonState.of(existingLesson));
+                }
+
+                LessonState from = expectedVersion == null ? LessonState.of(existingLesson) : base.get();
+                LessonState current = LessonState.of(existingLesson);
+                Supplier<PreconditionFailedException> conflict = () -> versionConflict(id);
+                existingLesson.setName(merge(from.name(), current.name(), lessonData.getName(), conflict));
+                existingLesson.setYoutubeUrl(merge(from.youtubeUrl(), current.youtubeUrl(), lessonData.getYoutubeUrl(), conflict));
+
+                Lesson savedLesson = lessonRepository.save(existingLesson);
+                courseResponseCache.evict(existingLesson.getCourse().getId());
+                lessonSearchIndex.index(savedLesson);
+                incrementCourseVersion(existingLesson.getCourse().getId());
+                return savedLesson;
+            });
+        } catch (OptimisticLockingFailureException ex) {
+            if (expectedVersion != null) {
+                throw versionConflict(id);
+            }
+            throw ex;
+        }
+    }
+
+    @Transactional
     public void deleteLesson(Long id) {
         Lesson lesson = lessonRepository.findById(id)
                 .orElseThrow(() -> new RecordNotFoundException("Lição não encontrada com id: ", id));
         lessonRepository.delete(lesson);
+        courseResponseCache.evict(lesson.getCourse().getId());
+        lessonSearchIndex.remove(id);
+        incrementCourseVersion(lesson.getCourse().getId());
     }
 
     public boolean validateIdConsistency(Long pathId, Lesson lesson) {
         return lesson.getId() == null || lesson.getId().equals(pathId);
     }
+
+    // Runs last so the course row stays locked only for the end of the transaction.
+    private void incrementCourseVersion(Long courseId) {
+        courseRepository.findByIdForVersionIncrement(courseId);
+    }
+
+    private static PreconditionFailedException versionConflict(Long id) {
+        return new PreconditionFailedException("Lição alterada desde a versão informada, id: " + id);
+    }
+
+    private record LessonState(String name, String youtubeUrl) {
+
+        static LessonState of(Lesson lesson) {
+            return new LessonState(lesson.getName(), lesson.getYoutubeUrl());
+        }
+    }
 }
@@ -0,0 +1,62 @@
+package com.camila.crud_spring.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Objects;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+/**
+ * Runs an update in its own transaction and runs it again when the commit loses a race on the
+ * {@code @Version} check, up to {@code app.optimistic-locking.max-attempts} times in total. A
+ * rolled-back attempt leaves the persistence context cleared, so the next one reads the state the
+ * competing write committed and can merge into it with {@link #merge}. No row is ever locked.
+ */
+@Component
+public class OptimisticUpdateExecutor {
+
+    private final TransactionTemplate transactionTemplate;
+    private final int maxAttempts;
+
+    public OptimisticUpdateExecutor(
+            PlatformTransactionManager transactionManager,
+            @Value("${app.optimistic-locking.max-attempts:3}") int maxAttempts) {
+
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxAttempts = Math.max(1, maxAttempts);
+    }
+
+    /**
+     * Calls {@code update} with the attempt number, starting at 1, until one attempt commits.
+     */
+    public <T> T execute(IntFunction<T> update) {
+        for (int attempt = 1; ; attempt++) {
+            int current = attempt;
+            try {
+                return transactionTemplate.execute(status -> update.apply(current));
+            } catch (OptimisticLockingFailureException ex) {
+                if (current >= maxAttempts) {
+                    throw ex;
+                }
+            }
+        }
+    }
+
+    /**
+     * Three-way merge of one field: keeps a concurrent change ({@code theirs}) when this request did
+     * not touch the field, and fails with {@code conflict} when both changed it to different values.
+     */
+    public static <T> T merge(T base, T theirs, T ours, Supplier<? extends RuntimeException> conflict) {
+        if (Objects.equals(base, ours)) {
+            return theirs;
+        }
+        if (Objects.equals(base, theirs) || Objects.equals(theirs, ours)) {
+            return ours;
+        }
+        throw conflict.get();
+    }
+}
@@ -0,0 +1,147 @@
+package com.camila.crud_spring.service;
+
+import com.camila.crud_spring.dto.CourseDTO;
+import com.camila.crud_spring.dto.CourseWithLessonsResponseDTO;
+import com.camila.crud_spring.enums.CountMode;
+import com.camila.crud_spring.enums.Status;
+import com.camila.crud_spring.exception.RecordNotFoundException;
+import com.camila.crud_spring.repository.ReactiveCourseRepository;
+import com.camila.crud_spring.repository.ReactiveLessonRepository;
+import lombok.AllArgsConstructor;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read-only counterpart of {@link CourseService} on R2DBC. Results mirror the servlet endpoints;
+ * the response cache is not used.
+ */
+@Service
+@AllArgsConstructor
+@SuppressWarnings("java:S1192")
+public class ReactiveCourseService {
+
+    private final ReactiveCourseRepository courseRepository;
+    private final ReactiveLessonRepository lessonRepository;
+    private final ApproximateCountService approximateCountService;
+
+    public Mono<Page<CourseDTO>> listActiveCourses(Pageable pageable) {
+        return page(Status.ACTIVE, pageable);
+    }
+
+    public Mono<Slice<CourseDTO>> sliceActiveCourses(Pageable pageable) {
+        return slice(Status.ACTIVE, pageable);
+    }
+
+    public Mono<Long> countActiveCourses(CountMode countMode) {
+        return switch (countMode) {
+            case NONE -> Mono.empty();
+            case APPROXIMATE -> Mono.fromCallable(approximateCountService::countActiveCourses)
+                    .subscribeOn(Schedulers.boundedElastic());
+            case EXACT -> courseRepository.count(Status.ACTIVE);
+        };
+    }
+
+    public Mono<Window<CourseDTO>> scrollActiveCourses(ScrollPosition position, Sort sort, int size) {
+        return scroll(Status.ACTIVE, position, sort, size);
+    }
+
+    public Mono<Page<CourseDTO>> listAllCourses(Pageable pageable) {
+        return page(null, pageable);
+    }
+
+    public Mono<Slice<CourseDTO>> sliceAllCourses(Pageable pageable) {
+        return slice(null, pageable);
+    }
+
+    public Mono<Long> countAllCourses(CountMode countMode) {
+        return switch (countMode) {
+            case NONE -> Mono.empty();
+            case APPROXIMATE -> Mono.fromCallable(approximateCountService::countAllCourses)
+                    .subscribeOn(Schedulers.boundedElastic());
+            case EXACT -> courseRepository.count(null);
+        };
+    }
+
+    public Mono<Window<CourseDTO>> scrollAllCourses(ScrollPosition position, Sort sort, int size) {
+        return scroll(null, position, sort, size);
+    }
+
+    public Flux<CourseDTO> streamActiveCourses() {
+        return courseRepository.streamCourseDTOs(Status.ACTIVE);
+    }
+
+    public Mono<CourseDTO> findActiveById(Long id) {
+        return courseRepository.findCourseDTOById(id, Status.ACTIVE)
+                .switchIfEmpty(Mono.error(() -> new RecordNotFoundException("Curso não encontrado com id: ", id)));
+    }
+
+    public Mono<Page<CourseWithLessonsResponseDTO>> listActiveCoursesWithLessons(Pageable pageable) {
+        return page(Status.ACTIVE, pageable).flatMap(courses -> lessonRepository
+                .findLessonDTOsByCourseIds(courses.map(CourseDTO::id).getContent())
+                .map(lessons -> courses.map(course -> new CourseWithLessonsResponseDTO(
+                        course, List.copyOf(lessons.getOrDefault(course.id(), List.of()))))));
+    }
+
+    public Mono<CourseWithLessonsResponseDTO> getActiveCourseWithLessons(Long id) {
+        return withLessons(courseRepository.findCourseDTOById(id, Status.ACTIVE), id);
+    }
+
+    public Mono<CourseWithLessonsResponseDTO> getCourseWithLessons(Long id) {
+        return withLessons(courseRepository.findCourseDTOById(id, null), id);
+    }
+
+    private Mono<CourseWithLessonsResponseDTO> withLessons(Mono<CourseDTO> course, Long id) {
+        return course
+                .switchIfEmpty(Mono.error(() -> new RecordNotFoundException("Curso não encontrado com id: ", id)))
+                .flatMap(courseDTO -> lessonRepository.streamLessonDTOsByCourseId(id)
+                        .collectList()
+                        .map(lessons -> new CourseWithLessonsResponseDTO(courseDTO, lessons)));
+    }
+
+    private Mono<Page<CourseDTO>> page(Status status, Pageable pageable) {
+        return Mono.zip(
+                        courseRepository.findCourseDTOs(status, pageable.getSort(), pageable.getOffset(), pageable.getPageSize()).collectList(),
+                        courseRepository.count(status))
+                .map(result -> new PageImpl<>(result.getT1(), pageable, result.getT2()));
+    }
+
+    private Mono<Slice<CourseDTO>> slice(Status status, Pageable pageable) {
+        int size = pageable.getPageSize();
+        return courseRepository.findCourseDTOs(status, pageable.getSort(), pageable.getOffset(), size + 1)
+                .collectList()
+                .map(courses -> new SliceImpl<>(courses.subList(0, Math.min(size, courses.size())), pageable, courses.size() > size));
+    }
+
+    private Mono<Window<CourseDTO>> scroll(Status status, ScrollPosition position, Sort sort, int size) {
+        Map<String, Object> keys = ((KeysetScrollPosition) position).getKeys();
+        return courseRepository.findCourseDTOsAfter(status, keys, sort, size + 1)
+                .collectList()
+                .map(courses -> {
+                    List<CourseDTO> content = new ArrayList<>(courses.subList(0, Math.min(size, courses.size())));
+                    return Window.from(content, index -> positionOf(content.get(index)), courses.size() > size);
+                });
+    }
+
+    private static ScrollPosition positionOf(CourseDTO course) {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("name", course.name());
+        keys.put("id", course.id());
+        return ScrollPosition.forward(keys);
+    }
+}
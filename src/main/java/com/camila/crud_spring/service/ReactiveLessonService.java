@@ -0,0 +1,118 @@
+package com.camila.crud_spring.service;
+
+import com.camila.crud_spring.dto.LessonDTO;
+import com.camila.crud_spring.enums.CountMode;
+import com.camila.crud_spring.exception.RecordNotFoundException;
+import com.camila.crud_spring.repository.ReactiveLessonRepository;
+import lombok.AllArgsConstructor;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read-only counterpart of {@link LessonService} on R2DBC.
+ */
+@Service
+@AllArgsConstructor
+public class ReactiveLessonService {
+
+    private final ReactiveLessonRepository lessonRepository;
+    private final ApproximateCountService approximateCountService;
+
+    public Mono<Page<LessonDTO>> listAllLessons(Pageable pageable) {
+        return page(null, pageable);
+    }
+
+    public Mono<Slice<LessonDTO>> sliceAllLessons(Pageable pageable) {
+        return slice(null, pageable);
+    }
+
+    public Mono<Long> countAllLessons(CountMode countMode) {
+        return switch (countMode) {
+            case NONE -> Mono.empty();
+            case APPROXIMATE -> Mono.fromCallable(approximateCountService::countAllLessons)
+                    .subscribeOn(Schedulers.boundedElastic());
+            case EXACT -> lessonRepository.count(null);
+        };
+    }
+
+    public Mono<Window<LessonDTO>> scrollAllLessons(ScrollPosition position, Sort sort, int size) {
+        return scroll(null, position, sort, size);
+    }
+
+    public Mono<Page<LessonDTO>> listLessonsByCourse(Long courseId, Pageable pageable) {
+        return page(courseId, pageable);
+    }
+
+    public Mono<Slice<LessonDTO>> sliceLessonsByCourse(Long courseId, Pageable pageable) {
+        return slice(courseId, pageable);
+    }
+
+    public Mono<Long> countLessonsByCourse(Long courseId, CountMode countMode) {
+        return switch (countMode) {
+            case NONE -> Mono.empty();
+            case APPROXIMATE -> Mono.fromCallable(() -> approximateCountService.countLessonsByCourse(courseId))
+                    .subscribeOn(Schedulers.boundedElastic());
+            case EXACT -> lessonRepository.count(courseId);
+        };
+    }
+
+    public Mono<Window<LessonDTO>> scrollLessonsByCourse(Long courseId, ScrollPosition position, Sort sort, int size) {
+        return scroll(courseId, position, sort, size);
+    }
+
+    public Flux<LessonDTO> streamLessonsByCourse(Long courseId) {
+        return lessonRepository.streamLessonDTOsByCourseId(courseId);
+    }
+
+    public Mono<LessonDTO> findById(Long id) {
+        return lessonRepository.findLessonDTOById(id)
+                .switchIfEmpty(Mono.error(() -> new RecordNotFoundException("Lição não encontrada com id: ", id)));
+    }
+
+    private Mono<Page<LessonDTO>> page(Long courseId, Pageable pageable) {
+        return Mono.zip(
+                        lessonRepository.findLessonDTOs(courseId, pageable.getSort(), pageable.getOffset(), pageable.getPageSize()).collectList(),
+                        lessonRepository.count(courseId))
+                .map(result -> new PageImpl<>(result.getT1(), pageable, result.getT2()));
+    }
+
+    private Mono<Slice<LessonDTO>> slice(Long courseId, Pageable pageable) {
+        int size = pageable.getPageSize();
+        return lessonRepository.findLessonDTOs(courseId, pageable.getSort(), pageable.getOffset(), size + 1)
+                .collectList()
+                .map(lessons -> new SliceImpl<>(lessons.subList(0, Math.min(size, lessons.size())), pageable, lessons.size() > size));
+    }
+
+    private Mono<Window<LessonDTO>> scroll(Long courseId, ScrollPosition position, Sort sort, int size) {
+        Map<String, Object> keys = ((KeysetScrollPosition) position).getKeys();
+        return lessonRepository.findLessonDTOsAfter(courseId, keys, sort, size + 1)
+                .collectList()
+                .map(lessons -> {
+                    List<LessonDTO> content = new ArrayList<>(lessons.subList(0, Math.min(size, lessons.size())));
+                    return Window.from(content, index -> positionOf(content.get(index)), lessons.size() > size);
+                });
+    }
+
+    private static ScrollPosition positionOf(LessonDTO lesson) {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("name", lesson.name());
+        keys.put("id", lesson.id());
+        return ScrollPosition.forward(keys);
+    }
+}
@@ -0,0 +1,21 @@
+-- Ids come from pooled sequences; the increment matches allocationSize on the entities.
+create sequence course_seq start with 1 increment by 50;
+create sequence lesson_seq start with 1 increment by 50;
+
+-- category and status hold enum ordinals.
+create table course (
+    id bigint not null,
+    name varchar(100) not null,
+    category tinyint not null check (category between 0 and 9),
+    status tinyint not null check (status between 0 and 1),
+    primary key (id)
+);
+
+create table lesson (
+    id bigint not null,
+    name varchar(100) not null,
+    youtube_url varchar(11) not null,
+    course_id bigint not null,
+    primary key (id),
+    constraint fk_lesson_course foreign key (course_id) references course (id)
+);
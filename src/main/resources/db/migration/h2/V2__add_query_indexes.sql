@@ -0,0 +1,25 @@
+-- One index per repository query path. Trailing id columns keep keyset pagination on (name, id)
+-- inside the index.
+
+-- findByStatus, findCourseDTOsByStatus, countByStatus, keyset scrolls of active courses and
+-- search?status=[&name=]. category is included so the DTO projections never visit the table.
+create index idx_course_status_name on course (status, name, id, category);
+
+-- search?status=&category=[&name=]
+create index idx_course_status_category_name on course (status, category, name, id);
+
+-- updateStatusByCategory and search?category=[&name=]
+create index idx_course_category_name on course (category, name, id);
+
+-- findAll / findAllCourseDTOs sorted by name, keyset scrolls of all courses and search?name=
+create index idx_course_name on course (name, id);
+
+-- findAllLessonDTOs sorted by name and keyset scrolls of all lessons
+create index idx_lesson_name on lesson (name, id);
+
+-- findByCourseId, findLessonDTOsByCourseId, countByCourseId, deleteByCourseIdIn and the
+-- lesson batch fetch of courses with lessons
+create index idx_lesson_course_name on lesson (course_id, name, id);
+
+-- findByYoutubeUrl
+create index idx_lesson_youtube_url on lesson (youtube_url);
@@ -0,0 +1,3 @@
+-- Optimistic-locking versions; they also back the ETags of the course and lesson resources.
+alter table course add column version bigint default 0 not null;
+alter table lesson add column version bigint default 0 not null;
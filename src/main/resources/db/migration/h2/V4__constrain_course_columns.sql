@@ -0,0 +1,2 @@
+-- Nothing to change: H2 compares course.name case-sensitively and V1 already checks category
+-- and status. The version exists so both vendors share one migration history.
@@ -0,0 +1,28 @@
+-- MySQL has no sequences; Hibernate emulates the pooled course_seq and lesson_seq with one-row tables.
+create table course_seq (
+    next_val bigint
+) engine = InnoDB;
+insert into course_seq values (1);
+
+create table lesson_seq (
+    next_val bigint
+) engine = InnoDB;
+insert into lesson_seq values (1);
+
+-- category and status hold enum ordinals.
+create table course (
+    id bigint not null,
+    name varchar(100) not null,
+    category tinyint not null,
+    status tinyint not null,
+    primary key (id)
+) engine = InnoDB;
+
+create table lesson (
+    id bigint not null,
+    name varchar(100) not null,
+    youtube_url varchar(11) not null,
+    course_id bigint not null,
+    primary key (id),
+    constraint fk_lesson_course foreign key (course_id) references course (id)
+) engine = InnoDB;
@@ -0,0 +1,8 @@
+-- Brings course in line with the H2 schema. The default utf8mb4_0900_ai_ci collation makes
+-- name LIKE 'x%' ignore case and accents; a binary collation keeps the search prefix
+-- case-sensitive on both databases. The name indexes are rebuilt with the new collation.
+alter table course modify name varchar(100) character set utf8mb4 collate utf8mb4_bin not null;
+
+-- category and status hold enum ordinals, checked as in H2's V1.
+alter table course add constraint chk_course_category check (category between 0 and 9);
+alter table course add constraint chk_course_status check (status between 0 and 1);
@@ -0,0 +1,77 @@
+package com.camila.crud_spring.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Connection Limiting Data Source Tests")
+class ConnectionLimitingDataSourceTest {
+
+    @Mock
+    private DataSource targetDataSource;
+
+    @Mock
+    private Connection connection;
+
+    private ConnectionLimitingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new ConnectionLimitingDataSource(targetDataSource, 1, Duration.ofMillis(50));
+    }
+
+    @Test
+    @DisplayName("Should time out when every permit is in use")
+    void shouldTimeOutWhenLimitReached() throws SQLException {
+        // Given
+        when(targetDataSource.getConnection()).thenReturn(connection);
+        dataSource.getConnection();
+
+        // When / Then
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+        assertEquals(1, dataSource.getActiveConnections());
+        verify(targetDataSource, times(1)).getConnection();
+    }
+
+    @Test
+    @DisplayName("Should release the permit once when the connection is closed")
+    void shouldReleasePermitOnClose() throws SQLException {
+        // Given
+        when(targetDataSource.getConnection()).thenReturn(connection);
+        Connection first = dataSource.getConnection();
+
+        // When
+        first.close();
+        first.close();
+        Connection second = dataSource.getConnection();
+
+        // Then
+        assertNotNull(second);
+        assertEquals(1, dataSource.getActiveConnections());
+        verify(connection, times(2)).close();
+    }
+
+    @Test
+    @DisplayName("Should release the permit when the pool fails to provide a connection")
+    void shouldReleasePermitWhenTargetFails() throws SQLException {
+        // Given
+        when(targetDataSource.getConnection()).thenThrow(new SQLException("pool exhausted"));
+
+        // When / Then
+        assertThrows(SQLException.class, dataSource::getConnection);
+        assertEquals(0, dataSource.getActiveConnections());
+    }
+}
@@ -0,0 +1,160 @@
+package com.camila.crud_spring.config;
+
+import com.camila.crud_spring.enums.Category;
+import com.camila.crud_spring.model.Course;
+import com.camila.crud_spring.model.Lesson;
+import com.camila.crud_spring.repository.CourseRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Exercises negotiation and compression over real HTTP, since compression is applied by the
+ * embedded server and not by Spring MVC.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:negotiation;DB_CLOSE_DELAY=-1",
+        "spring.r2dbc.url=r2dbc:h2:mem:///negotiation?options=DB_CLOSE_DELAY=-1"
+})
+@ActiveProfiles("dev")
+@DisplayName("Content Negotiation Config Tests")
+class ContentNegotiationConfigTest {
+
+    private static final String SMILE = "application/x-jackson-smile";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    private Course courseWithLessons;
+
+    @BeforeEach
+    void setUp() {
+        List<Course> courses = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            Course course = new Course();
+            course.setName("Negotiated Course " + i);
+            course.setCategory(Category.values()[i % Category.values().length]);
+            courses.add(course);
+        }
+        for (int i = 0; i < 50; i++) {
+            Lesson lesson = new Lesson("Negotiated Lesson " + i, "%011d".formatted(i));
+            lesson.setCourse(courses.get(0));
+            courses.get(0).getLessons().add(lesson);
+        }
+        courseWithLessons = courseRepository.saveAll(courses).get(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        courseRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should gzip a course page above the size threshold")
+    void shouldGzipLargeCoursePage() throws Exception {
+        // When
+        HttpResponse<InputStream> response = get("/api/courses?size=50", "application/json", true);
+
+        // Then
+        assertEquals(200, response.statusCode());
+        assertEquals("gzip", response.headers().firstValue("Content-Encoding").orElse(null));
+        JsonNode page;
+        try (InputStream body = new GZIPInputStream(response.body())) {
+            page = new ObjectMapper().readTree(body);
+        }
+        assertEquals(50, page.at("/content").size());
+    }
+
+    @Test
+    @DisplayName("Should not compress a course page below the size threshold")
+    void shouldNotCompressSmallCoursePage() throws Exception {
+        // When
+        HttpResponse<InputStream> response = get("/api/courses?size=1", "application/json", true);
+
+        // Then
+        assertEquals(200, response.statusCode());
+        assertTrue(response.headers().firstValue("Content-Encoding").isEmpty());
+        response.body().close();
+    }
+
+    @Test
+    @DisplayName("Should send a smaller course page as Smile than as JSON")
+    void shouldSendSmallerCoursePageAsSmile() throws Exception {
+        // When
+        byte[] json = bytes(get("/api/courses?size=50", "application/json", false));
+        HttpResponse<InputStream> smileResponse = get("/api/courses?size=50", SMILE, false);
+        byte[] smile = bytes(smileResponse);
+
+        // Then
+        assertEquals(SMILE, smileResponse.headers().firstValue("Content-Type").orElse(null));
+        assertTrue(smile.length < json.length, () -> smile.length + " Smile bytes vs " + json.length + " JSON bytes");
+        JsonNode page = new ObjectMapper(ContentNegotiationConfig.smileFactory()).readTree(smile);
+        assertEquals(50, page.at("/content").size());
+    }
+
+    @Test
+    @DisplayName("Should leave responses with a strong ETag uncompressed and vary them by Accept")
+    void shouldNotCompressStrongETagResponse() throws Exception {
+        // When
+        HttpResponse<InputStream> response = get(
+                "/api/courses/" + courseWithLessons.getId() + "/with-lessons", "application/json", true);
+
+        // Then
+        assertEquals(200, response.statusCode());
+        assertTrue(response.headers().firstValue("ETag").isPresent());
+        assertTrue(response.headers().firstValue("Content-Encoding").isEmpty());
+        assertTrue(response.headers().allValues("Vary").stream().anyMatch(vary -> vary.contains("Accept")));
+        assertTrue(bytes(response).length > 2048);
+    }
+
+    @Test
+    @DisplayName("Should keep streaming NDJSON elements without a Content-Length")
+    void shouldStreamNdjsonWithoutContentLength() throws Exception {
+        // When
+        HttpResponse<InputStream> response = get("/api/reactive/courses/stream", "application/x-ndjson", false);
+
+        // Then
+        assertEquals(200, response.statusCode());
+        assertTrue(response.headers().firstValue("Content-Length").isEmpty());
+        assertEquals(50, new String(bytes(response)).lines().count());
+    }
+
+    private HttpResponse<InputStream> get(String path, String accept, boolean gzip) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Accept", accept);
+        if (gzip) {
+            request.header("Accept-Encoding", "gzip");
+        }
+        return httpClient.send(request.build(), HttpResponse.BodyHandlers.ofInputStream());
+    }
+
+    private static byte[] bytes(HttpResponse<InputStream> response) throws IOException {
+        try (InputStream body = response.body()) {
+            return body.readAllBytes();
+        }
+    }
+}
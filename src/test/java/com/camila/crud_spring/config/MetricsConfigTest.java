@@ -0,0 +1,50 @@
+package com.camila.crud_spring.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:metrics;DB_CLOSE_DELAY=-1")
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@ActiveProfiles("dev")
+@DisplayName("Metrics Config Tests")
+class MetricsConfigTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("Should expose request, service, Hibernate, pool and JVM metrics for Prometheus")
+    void shouldExposePrometheusMetrics() throws Exception {
+        // When
+        mockMvc.perform(get("/api/courses")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/courses/{id}", 999999)).andExpect(status().isNotFound());
+
+        // Then
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("http_server_requests_seconds_count{application=\"crud-spring\"")))
+                .andExpect(content().string(containsString("uri=\"/api/courses/{id}\"")))
+                .andExpect(content().string(not(containsString("uri=\"/api/courses/999999\""))))
+                .andExpect(content().string(containsString("app_service_seconds_count{application=\"crud-spring\",class=\"com.camila.crud_spring.service.CourseService\"")))
+                .andExpect(content().string(containsString("hibernate_query_executions_total")))
+                .andExpect(content().string(containsString("hibernate_entities_loads_total")))
+                .andExpect(content().string(containsString("hibernate_collections_fetches_total")))
+                .andExpect(content().string(containsString("hibernate_second_level_cache_requests_total")))
+                .andExpect(content().string(containsString("hikaricp_connections_pending")))
+                .andExpect(content().string(containsString("hikaricp_connections_usage_seconds")))
+                .andExpect(content().string(containsString("jvm_gc_memory_allocated_bytes_total")));
+    }
+}
@@ -0,0 +1,52 @@
+package com.camila.crud_spring.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.threads.virtual.enabled=true",
+        "spring.datasource.url=jdbc:h2:mem:virtual;DB_CLOSE_DELAY=-1",
+        "app.datasource.max-concurrent-connections=4"
+})
+@ActiveProfiles("dev")
+@DisplayName("Virtual Thread Config Tests")
+class VirtualThreadConfigTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private VirtualThreadPinningMonitor pinningMonitor;
+
+    @Autowired
+    @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    private AsyncTaskExecutor taskExecutor;
+
+    @Test
+    @DisplayName("Should limit connections and monitor pinning when virtual threads are enabled")
+    void shouldLimitConnectionsAndMonitorPinning() {
+        assertInstanceOf(ConnectionLimitingDataSource.class, dataSource);
+        assertTrue(pinningMonitor.isRunning());
+    }
+
+    @Test
+    @DisplayName("Should run application tasks on virtual threads")
+    void shouldRunTasksOnVirtualThreads() throws Exception {
+        // When
+        boolean virtual = taskExecutor.submit(() -> Thread.currentThread().isVirtual()).get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertTrue(virtual);
+    }
+}
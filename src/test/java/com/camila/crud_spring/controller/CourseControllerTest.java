@@ -1,41 +1,77 @@
 package com.camila.crud_spring.controller;
 
+import com.camila.crud_spring.config.ContentNegotiationConfig;
+import com.camila.crud_spring.dto.BatchResultDTO;
 import com.camila.crud_spring.dto.CourseDTO;
 import com.camila.crud_spring.dto.CourseWithLessonRequestDTO;
 import com.camila.crud_spring.dto.CourseWithLessonsResponseDTO;
+import com.camila.crud_spring.dto.ImportResultDTO;
+import com.camila.crud_spring.dto.ImportSummaryDTO;
 import com.camila.crud_spring.dto.mapper.CourseMapper;
+import com.camila.crud_spring.dto.mapper.CursorMapper;
+import com.camila.crud_spring.dto.mapper.ETagMapper;
+import com.camila.crud_spring.dto.mapper.FieldsMapper;
 import com.camila.crud_spring.dto.mapper.LessonMapper;
 import com.camila.crud_spring.enums.Category;
+import com.camila.crud_spring.enums.CountMode;
+import com.camila.crud_spring.enums.ExportFormat;
 import com.camila.crud_spring.enums.Status;
+import com.camila.crud_spring.exception.PreconditionFailedException;
+import com.camila.crud_spring.exception.RecordNotFoundException;
 import com.camila.crud_spring.model.Course;
 import com.camila.crud_spring.repository.CourseRepository;
+import com.camila.crud_spring.service.CourseExportService;
+import com.camila.crud_spring.service.CourseImportService;
 import com.camila.crud_spring.service.CourseService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
+import static org.hamcrest.Matchers.hasItem;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(CourseController.class)
+@Import({CursorMapper.class, ETagMapper.class, FieldsMapper.class})
 @DisplayName("Course Controller Tests")
 class CourseControllerTest {
 
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -51,6 +87,12 @@ class CourseControllerTest {
     @MockitoBean
     private CourseRepository courseRepository;
 
+    @MockitoBean
+    private CourseImportService courseImportService;
+
+    @MockitoBean
+    private CourseExportService courseExportService;
+
     private Course course;
     private CourseDTO courseDTO;
     private CourseWithLessonsResponseDTO courseWithLessonsDTO;
@@ -65,17 +107,16 @@ class CourseControllerTest {
         course.setLessons(new ArrayList<>());
 
         courseDTO = new CourseDTO(1L, "Angular Basics", Category.FRONTEND);
-        courseWithLessonsDTO = new CourseWithLessonsResponseDTO(courseDTO, Collections.emptyList());
+        courseWithLessonsDTO = new CourseWithLessonsResponseDTO(courseDTO, Collections.emptyList(), 3L);
     }
 
     @Test
     @DisplayName("Should list active courses with pagination")
     void shouldListActiveCourses() throws Exception {
         // Given
-        List<Course> courses = List.of(course);
-        Page<Course> coursePage = new PageImpl<>(courses);
+        List<CourseDTO> courseDTOs = List.of(courseDTO);
+        Page<CourseDTO> coursePage = new PageImpl<>(courseDTOs);
         when(courseService.listActiveCourses(any(Pageable.class))).thenReturn(coursePage);
-        when(courseMapper.toCourseDTO(any(Course.class))).thenReturn(courseDTO);
 
         // When & Then
         mockMvc.perform(get("/api/courses")
@@ -88,11 +129,146 @@ class CourseControllerTest {
         verify(courseService, times(1)).listActiveCourses(any(Pageable.class));
     }
 
+    @Test
+    @DisplayName("Should list only the requested course fields")
+    void shouldListRequestedCourseFields() throws Exception {
+        // Given
+        when(courseService.listActiveCourses(any(Pageable.class), eq(Map.of("_id", "id", "name", "name"))))
+                .thenReturn(new PageImpl<>(List.of(Map.of("_id", 1L, "name", "Angular Basics"))));
+
+        // When & Then
+        mockMvc.perform(get("/api/courses")
+                        .param("fields", "name,_id"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0]._id").value(1))
+                .andExpect(jsonPath("$.content[0].name").value("Angular Basics"))
+                .andExpect(jsonPath("$.content[0].category").doesNotExist());
+
+        verify(courseService, never()).listActiveCourses(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("Should return 400 for an unknown course field")
+    void shouldReturnBadRequestForUnknownCourseField() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/courses")
+                        .param("fields", "name,status"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Campo desconhecido: status"));
+
+        verifyNoInteractions(courseService);
+    }
+
+    @Test
+    @DisplayName("Should return 400 when fields is combined with count or after")
+    void shouldReturnBadRequestWhenFieldsIsCombinedWithCountOrAfter() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/courses")
+                        .param("fields", "name")
+                        .param("count", "exact"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("fields não pode ser combinado com count ou after"));
+
+        mockMvc.perform(get("/api/courses/all")
+                        .param("fields", "name")
+                        .param("after", "abc"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(courseService);
+    }
+
+    @Test
+    @DisplayName("Should list courses with only the requested lesson fields")
+    void shouldListCoursesWithRequestedLessonFields() throws Exception {
+        // Given
+        when(courseService.listActiveCoursesWithLessons(any(Pageable.class),
+                eq(new FieldsMapper.CourseWithLessonsFields(Map.of("name", "name"), Map.of("name", "name")))))
+                .thenReturn(new PageImpl<>(List.of(Map.of(
+                        "course", Map.of("name", "Angular Basics"),
+                        "lessons", List.of(Map.of("name", "Components"))))));
+
+        // When & Then
+        mockMvc.perform(get("/api/courses/with-lessons")
+                        .param("fields", "course.name,lessons.name"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].course.name").value("Angular Basics"))
+                .andExpect(jsonPath("$.content[0].lessons[0].name").value("Components"));
+    }
+
+    @Test
+    @DisplayName("Should serve the course page as Smile when the client accepts it")
+    void shouldServeCoursePageAsSmile() throws Exception {
+        // Given
+        when(courseService.listActiveCourses(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(courseDTO)));
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/courses")
+                        .accept(SMILE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(SMILE))
+                .andExpect(header().stringValues("Vary", hasItem("Accept")))
+                .andReturn();
+
+        // Then
+        JsonNode page = new ObjectMapper(ContentNegotiationConfig.smileFactory())
+                .readTree(result.getResponse().getContentAsByteArray());
+        assertEquals("Angular Basics", page.at("/content/0/name").asText());
+        assertEquals("Front-end", page.at("/content/0/category").asText());
+    }
+
+    @Test
+    @DisplayName("Should serve the course page as CBOR when the client accepts it")
+    void shouldServeCoursePageAsCbor() throws Exception {
+        // Given
+        when(courseService.listActiveCourses(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(courseDTO)));
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/courses")
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn();
+
+        // Then
+        JsonNode page = new ObjectMapper(ContentNegotiationConfig.cborFactory())
+                .readTree(result.getResponse().getContentAsByteArray());
+        assertEquals("Angular Basics", page.at("/content/0/name").asText());
+    }
+
+    @Test
+    @DisplayName("Should search courses by status, category and name prefix")
+    void shouldSearchCourses() throws Exception {
+        // Given
+        when(courseService.searchCourses(eq(Status.ACTIVE), eq(Category.FRONTEND), eq("Ang"), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(courseDTO)));
+
+        // When & Then
+        mockMvc.perform(get("/api/courses/search")
+                        .param("status", "active")
+                        .param("category", "Front-end")
+                        .param("name", "Ang"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].name").value("Angular Basics"));
+
+        verify(courseService, times(1)).searchCourses(eq(Status.ACTIVE), eq(Category.FRONTEND), eq("Ang"), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("Should search every course when no filter is given")
+    void shouldSearchWithoutFilters() throws Exception {
+        // Given
+        when(courseService.searchCourses(isNull(), isNull(), isNull(), any(Pageable.class))).thenReturn(Page.empty());
+
+        // When & Then
+        mockMvc.perform(get("/api/courses/search"))
+                .andExpect(status().isNoContent());
+    }
+
     @Test
     @DisplayName("Should return 204 when no courses found")
     void shouldReturnNoContentWhenNoCourses() throws Exception {
         // Given
-        Page<Course> emptyPage = Page.empty();
+        Page<CourseDTO> emptyPage = Page.empty();
         when(courseService.listActiveCourses(any(Pageable.class))).thenReturn(emptyPage);
 
         // When & Then
@@ -102,12 +278,89 @@ class CourseControllerTest {
         verify(courseService, times(1)).listActiveCourses(any(Pageable.class));
     }
 
+    @Test
+    @DisplayName("Should list active courses as slice without total")
+    void shouldListActiveCoursesAsSliceWithoutTotal() throws Exception {
+        // Given
+        when(courseService.sliceActiveCourses(any(Pageable.class))).thenReturn(new SliceImpl<>(List.of(courseDTO)));
+        when(courseService.countActiveCourses(CountMode.NONE)).thenReturn(null);
+
+        // When & Then
+        mockMvc.perform(get("/api/courses")
+                        .param("count", "none"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].name").value("Angular Basics"))
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+
+        verify(courseService, never()).listActiveCourses(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("Should list all courses as slice with approximate total")
+    void shouldListAllCoursesAsSliceWithApproximateTotal() throws Exception {
+        // Given
+        when(courseService.sliceAllCourses(any(Pageable.class))).thenReturn(new SliceImpl<>(List.of(courseDTO)));
+        when(courseService.countAllCourses(CountMode.APPROXIMATE)).thenReturn(33L);
+
+        // When & Then
+        mockMvc.perform(get("/api/courses/all")
+                        .param("count", "approximate"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(33));
+
+        verify(courseService, times(1)).countAllCourses(CountMode.APPROXIMATE);
+    }
+
+    @Test
+    @DisplayName("Should list active courses by cursor")
+    void shouldListActiveCoursesByCursor() throws Exception {
+        // Given
+        Window<Course> window = Window.from(List.of(course),
+                index -> ScrollPosition.forward(Map.of("name", course.getName(), "id", course.getId())), true);
+        when(courseService.scrollActiveCourses(any(ScrollPosition.class), any(Sort.class), anyInt())).thenReturn(window);
+        when(courseMapper.toCourseDTO(any(Course.class))).thenReturn(courseDTO);
+
+        // When & Then
+        mockMvc.perform(get("/api/courses")
+                        .param("after", "")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].name").value("Angular Basics"))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty());
+
+        verify(courseService, never()).listActiveCourses(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("Should return 400 when cursor is malformed")
+    void shouldReturnBadRequestWhenCursorIsMalformed() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/courses")
+                        .param("after", "%%%"))
+                .andExpect(status().isBadRequest());
+
+        verify(courseService, never()).scrollActiveCourses(any(ScrollPosition.class), any(Sort.class), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should return 400 when cursor is used with unsupported sort")
+    void shouldReturnBadRequestWhenCursorSortIsUnsupported() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/courses/all")
+                        .param("after", "")
+                        .param("sortBy", "category"))
+                .andExpect(status().isBadRequest());
+
+        verify(courseService, never()).scrollAllCourses(any(ScrollPosition.class), any(Sort.class), anyInt());
+    }
+
     @Test
     @DisplayName("Should get course by ID")
     void shouldGetCourseById() throws Exception {
         // Given
-        when(courseService.findActiveById(1L)).thenReturn(course);
-        when(courseMapper.toCourseDTO(any(Course.class))).thenReturn(courseDTO);
+        when(courseService.findActiveById(1L)).thenReturn(courseDTO);
 
         // When & Then
         mockMvc.perform(get("/api/courses/1"))
@@ -165,6 +418,61 @@ class CourseControllerTest {
         verify(courseService, never()).createCourse(any(Course.class));
     }
 
+    @Test
+    @DisplayName("Should stream course export in the requested format")
+    void shouldStreamCourseExport() throws Exception {
+        // Given
+        when(courseExportService.exportCourses(eq(ExportFormat.JSON), any(OutputStream.class))).thenAnswer(invocation -> {
+            OutputStream output = invocation.getArgument(1);
+            output.write("[]".getBytes(StandardCharsets.UTF_8));
+            return 0L;
+        });
+
+        // When & Then
+        mockMvc.perform(get("/api/courses/export").param("format", "json"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(content().string("[]"));
+
+        mockMvc.perform(get("/api/courses/export"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"));
+
+        verify(courseExportService, times(1)).exportCourses(eq(ExportFormat.JSON), any(OutputStream.class));
+        verify(courseExportService, times(1)).exportCourses(eq(ExportFormat.NDJSON), any(OutputStream.class));
+    }
+
+    @Test
+    @DisplayName("Should stream import results as NDJSON")
+    @SuppressWarnings("unchecked")
+    void shouldStreamImportResults() throws Exception {
+        // Given
+        String ndjson = """
+                {"name": "Angular Basics", "category": "Front-end"}
+                {"name": "AB", "category": "Front-end"}
+                """;
+
+        when(courseImportService.importCourses(any(InputStream.class), any())).thenAnswer(invocation -> {
+            Consumer<ImportResultDTO> listener = invocation.getArgument(1);
+            listener.accept(ImportResultDTO.created(1, 1L));
+            listener.accept(ImportResultDTO.failed(2, List.of("name: Name must be between 5 and 100 characters")));
+            return new ImportSummaryDTO(2, 1, 1);
+        });
+
+        // When & Then
+        mockMvc.perform(post("/api/courses/import")
+                        .contentType("application/x-ndjson")
+                        .content(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(content().string("""
+                        {"line":1,"status":"CREATED","id":1}
+                        {"line":2,"status":"FAILED","errors":["name: Name must be between 5 and 100 characters"]}
+                        {"total":2,"created":1,"failed":1}"""));
+
+        verify(courseImportService, times(1)).importCourses(any(InputStream.class), any(Consumer.class));
+    }
+
     @Test
     @DisplayName("Should update course")
     void shouldUpdateCourse() throws Exception {
@@ -179,7 +487,7 @@ class CourseControllerTest {
 
         when(courseMapper.toCourse(any(CourseWithLessonRequestDTO.class))).thenReturn(course);
         when(courseService.validateIdConsistency(anyLong(), any(Course.class))).thenReturn(true);
-        when(courseService.updateCourse(anyLong(), any(Course.class))).thenReturn(course);
+        when(courseService.updateCourse(anyLong(), any(Course.class), isNull())).thenReturn(course);
         when(courseMapper.toCourseWithLessonsResponseDTO(any(Course.class))).thenReturn(courseWithLessonsDTO);
 
         // When & Then
@@ -189,7 +497,7 @@ class CourseControllerTest {
                 .andExpect(status().isOk());
 
         verify(courseService, times(1)).validateIdConsistency(anyLong(), any(Course.class));
-        verify(courseService, times(1)).updateCourse(anyLong(), any(Course.class));
+        verify(courseService, times(1)).updateCourse(anyLong(), any(Course.class), isNull());
     }
 
     @Test
@@ -214,7 +522,80 @@ class CourseControllerTest {
                 .andExpect(status().isBadRequest());
 
         verify(courseService, times(1)).validateIdConsistency(anyLong(), any(Course.class));
-        verify(courseService, never()).updateCourse(anyLong(), any(Course.class));
+        verify(courseService, never()).updateCourse(anyLong(), any(Course.class), isNull());
+    }
+
+    @Test
+    @DisplayName("Should pass the If-Match version to the update and return the new ETag")
+    void shouldUpdateCourseWithIfMatch() throws Exception {
+        // Given
+        course.setVersion(4L);
+        when(courseMapper.toCourse(any(CourseWithLessonRequestDTO.class))).thenReturn(course);
+        when(courseService.validateIdConsistency(anyLong(), any(Course.class))).thenReturn(true);
+        when(courseService.updateCourse(anyLong(), any(Course.class), eq(3L))).thenReturn(course);
+        when(courseMapper.toCourseWithLessonsResponseDTO(any(Course.class))).thenReturn(courseWithLessonsDTO);
+
+        // When & Then
+        mockMvc.perform(put("/api/courses/1")
+                        .header("If-Match", "\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                    "name": "Angular Advanced",
+                                    "category": "Front-end",
+                                    "lessons": []
+                                }
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"4\""));
+
+        verify(courseService, times(1)).updateCourse(anyLong(), any(Course.class), eq(3L));
+    }
+
+    @Test
+    @DisplayName("Should return 412 when If-Match no longer matches the course")
+    void shouldReturnPreconditionFailedForStaleIfMatch() throws Exception {
+        // Given
+        when(courseMapper.toCourse(any(CourseWithLessonRequestDTO.class))).thenReturn(course);
+        when(courseService.validateIdConsistency(anyLong(), any(Course.class))).thenReturn(true);
+        when(courseService.updateCourse(anyLong(), any(Course.class), eq(3L)))
+                .thenThrow(new PreconditionFailedException("Curso alterado desde a versão informada, id: 1"));
+
+        // When & Then
+        mockMvc.perform(put("/api/courses/1")
+                        .header("If-Match", "\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                    "name": "Angular Advanced",
+                                    "category": "Front-end",
+                                    "lessons": []
+                                }
+                                """))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    @DisplayName("Should return 412 for a weak If-Match ETag")
+    void shouldReturnPreconditionFailedForWeakIfMatch() throws Exception {
+        // Given
+        when(courseMapper.toCourse(any(CourseWithLessonRequestDTO.class))).thenReturn(course);
+        when(courseService.validateIdConsistency(anyLong(), any(Course.class))).thenReturn(true);
+
+        // When & Then
+        mockMvc.perform(put("/api/courses/1")
+                        .header("If-Match", "W/\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                    "name": "Angular Advanced",
+                                    "category": "Front-end",
+                                    "lessons": []
+                                }
+                                """))
+                .andExpect(status().isPreconditionFailed());
+
+        verify(courseService, never()).updateCourse(anyLong(), any(Course.class), any());
     }
 
     @Test
@@ -230,6 +611,62 @@ class CourseControllerTest {
         verify(courseService, times(1)).softDeleteCourse(1L);
     }
 
+    @Test
+    @DisplayName("Should update status of a category in bulk")
+    void shouldUpdateStatusInBulk() throws Exception {
+        // Given
+        when(courseService.updateStatus(null, Category.FRONTEND, Status.INACTIVE)).thenReturn(3);
+
+        // When & Then
+        mockMvc.perform(patch("/api/courses/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                { "category": "Front-end", "status": "Inactive" }
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated").value(3));
+
+        verify(courseService, times(1)).updateStatus(null, Category.FRONTEND, Status.INACTIVE);
+    }
+
+    @Test
+    @DisplayName("Should return 400 when bulk status update has more than 1000 ids")
+    void shouldReturnBadRequestWhenBulkStatusUpdateHasTooManyIds() throws Exception {
+        // Given
+        String ids = LongStream.rangeClosed(1, 1001)
+                .mapToObj(String::valueOf)
+                .collect(Collectors.joining(","));
+
+        // When & Then
+        mockMvc.perform(patch("/api/courses/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{ \"ids\": [" + ids + "], \"status\": \"Inactive\" }"))
+                .andExpect(status().isBadRequest());
+
+        verify(courseService, never()).updateStatus(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should return 400 when bulk status update targets both ids and category")
+    void shouldReturnBadRequestWhenBulkStatusUpdateHasTwoTargets() throws Exception {
+        // When & Then
+        mockMvc.perform(patch("/api/courses/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                { "ids": [1, 2], "category": "Front-end", "status": "Inactive" }
+                                """))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(patch("/api/courses/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                { "status": "Inactive" }
+                                """))
+                .andExpect(status().isBadRequest());
+
+        verify(courseService, never()).updateStatus(any(), any(), any());
+    }
+
     @Test
     @DisplayName("Should hard delete course")
     void shouldHardDeleteCourse() throws Exception {
@@ -243,6 +680,64 @@ class CourseControllerTest {
         verify(courseService, times(1)).hardDeleteCourse(1L);
     }
 
+    @Test
+    @DisplayName("Should hard delete many courses")
+    void shouldHardDeleteManyCourses() throws Exception {
+        // Given
+        when(courseService.hardDeleteCourses(List.of(1L, 2L))).thenReturn(2);
+
+        // When & Then
+        mockMvc.perform(delete("/api/courses/hard").param("ids", "1,2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deleted").value(2));
+
+        verify(courseService, times(1)).hardDeleteCourses(List.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("Should get many courses by ids")
+    void shouldGetCoursesByIds() throws Exception {
+        // Given
+        when(courseService.findActiveByIds(List.of(1L, 999L)))
+                .thenReturn(new BatchResultDTO<>(List.of(courseDTO), List.of(999L)));
+
+        // When & Then
+        mockMvc.perform(get("/api/courses/batch").param("ids", "1,999"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.found[0]._id").value(1))
+                .andExpect(jsonPath("$.missing[0]").value(999));
+
+        verify(courseService, never()).findActiveById(anyLong());
+    }
+
+    @Test
+    @DisplayName("Should get many courses with lessons by ids")
+    void shouldGetCoursesWithLessonsByIds() throws Exception {
+        // Given
+        when(courseService.findActiveByIdsWithLessons(List.of(1L)))
+                .thenReturn(new BatchResultDTO<>(List.of(new CourseWithLessonsResponseDTO(courseDTO, List.of())), List.of()));
+
+        // When & Then
+        mockMvc.perform(get("/api/courses/batch/with-lessons").param("ids", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.found[0].course._id").value(1))
+                .andExpect(jsonPath("$.missing").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should return 400 when batch ids are invalid")
+    void shouldReturnBadRequestForInvalidBatchIds() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/courses/batch").param("ids", "1,-2"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/courses/batch").param("ids", LongStream.rangeClosed(1, 101)
+                        .mapToObj(String::valueOf).toArray(String[]::new)))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(courseService);
+    }
+
     @Test
     @DisplayName("Should list courses with lessons")
     void shouldListCoursesWithLessons() throws Exception {
@@ -266,24 +761,81 @@ class CourseControllerTest {
     @DisplayName("Should get course by ID with lessons")
     void shouldGetCourseByIdWithLessons() throws Exception {
         // Given
-        when(courseService.findActiveByIdWithLessons(1L)).thenReturn(course);
-        when(courseMapper.toCourseDTO(any(Course.class))).thenReturn(courseDTO);
+        when(courseService.getActiveCourseWithLessons(1L)).thenReturn(courseWithLessonsDTO);
 
         // When & Then
         mockMvc.perform(get("/api/courses/1/with-lessons"))
-                .andExpect(status().isOk());
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.course.name").value("Angular Basics"))
+                .andExpect(jsonPath("$.version").doesNotExist());
 
-        verify(courseService, times(1)).findActiveByIdWithLessons(1L);
+        verify(courseService, times(1)).getActiveCourseWithLessons(1L);
+    }
+
+    @Test
+    @DisplayName("Should send the course version as ETag")
+    void shouldSendCourseVersionAsETag() throws Exception {
+        // Given
+        when(courseService.findActiveCourseVersion(1L)).thenReturn(3L);
+        when(courseService.getActiveCourseWithLessons(1L)).thenReturn(courseWithLessonsDTO);
+
+        // When & Then
+        mockMvc.perform(get("/api/courses/1/with-lessons"))
+                .andExpect(status().isOk())
+                .andExpect(header().stringValues("ETag", "\"3\""));
+    }
+
+    @Test
+    @DisplayName("Should answer 304 from the version without loading the course")
+    void shouldAnswerNotModifiedWithoutLoadingCourse() throws Exception {
+        // Given
+        when(courseService.findActiveCourseVersion(1L)).thenReturn(3L);
+
+        // When & Then
+        mockMvc.perform(get("/api/courses/1/with-lessons").header("If-None-Match", "\"3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"3\""))
+                .andExpect(content().string(""));
+
+        verify(courseService, never()).getActiveCourseWithLessons(anyLong());
+    }
+
+    @Test
+    @DisplayName("Should rebuild a cached body older than the current version")
+    void shouldRebuildStaleCachedBody() throws Exception {
+        // Given
+        CourseWithLessonsResponseDTO current = new CourseWithLessonsResponseDTO(courseDTO, Collections.emptyList(), 4L);
+        when(courseService.findCourseVersion(1L)).thenReturn(4L);
+        when(courseService.getCourseWithLessons(1L)).thenReturn(courseWithLessonsDTO);
+        when(courseService.reloadCourseWithLessons(1L)).thenReturn(current);
+
+        // When & Then
+        mockMvc.perform(get("/api/courses/all/1/with-lessons").header("If-None-Match", "\"3\""))
+                .andExpect(status().isOk())
+                .andExpect(header().stringValues("ETag", "\"4\""));
+
+        verify(courseService, times(1)).reloadCourseWithLessons(1L);
+    }
+
+    @Test
+    @DisplayName("Should return 404 for the ETag lookup of a missing course")
+    void shouldReturnNotFoundForMissingCourseVersion() throws Exception {
+        // Given
+        when(courseService.findActiveCourseVersion(999L))
+                .thenThrow(new RecordNotFoundException("Curso não encontrado com id: ", 999L));
+
+        // When & Then
+        mockMvc.perform(get("/api/courses/999/with-lessons").header("If-None-Match", "\"3\""))
+                .andExpect(status().isNotFound());
     }
 
     @Test
     @DisplayName("Should list all courses including inactive")
     void shouldListAllCourses() throws Exception {
         // Given
-        List<Course> courses = List.of(course);
-        Page<Course> coursePage = new PageImpl<>(courses);
+        List<CourseDTO> courseDTOs = List.of(courseDTO);
+        Page<CourseDTO> coursePage = new PageImpl<>(courseDTOs);
         when(courseService.listAllCourses(any(Pageable.class))).thenReturn(coursePage);
-        when(courseMapper.toCourseDTO(any(Course.class))).thenReturn(courseDTO);
 
         // When & Then
         mockMvc.perform(get("/api/courses/all")
@@ -1,7 +1,12 @@
 package com.camila.crud_spring.controller;
 
+import com.camila.crud_spring.dto.BatchResultDTO;
 import com.camila.crud_spring.dto.LessonDTO;
+import com.camila.crud_spring.dto.mapper.CursorMapper;
+import com.camila.crud_spring.dto.mapper.ETagMapper;
+import com.camila.crud_spring.dto.mapper.FieldsMapper;
 import com.camila.crud_spring.dto.mapper.LessonMapper;
+import com.camila.crud_spring.exception.PreconditionFailedException;
 import com.camila.crud_spring.model.Lesson;
 import com.camila.crud_spring.repository.CourseRepository;
 import com.camila.crud_spring.service.LessonService;
@@ -10,22 +15,31 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.List;
+import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(LessonController.class)
+@Import({CursorMapper.class, ETagMapper.class, FieldsMapper.class})
 @DisplayName("Lesson Controller Tests")
 class LessonControllerTest {
 
@@ -58,10 +72,9 @@ class LessonControllerTest {
     @DisplayName("Should list all lessons with pagination")
     void shouldListAllLessons() throws Exception {
         // Given
-        List<Lesson> lessons = List.of(lesson);
-        Page<Lesson> lessonPage = new PageImpl<>(lessons);
+        List<LessonDTO> lessonDTOs = List.of(lessonDTO);
+        Page<LessonDTO> lessonPage = new PageImpl<>(lessonDTOs);
         when(lessonService.listAllLessons(any(Pageable.class))).thenReturn(lessonPage);
-        when(lessonMapper.toLessonDTO(any(Lesson.class))).thenReturn(lessonDTO);
 
         // When & Then
         mockMvc.perform(get("/api/lessons")
@@ -78,7 +91,7 @@ class LessonControllerTest {
     @DisplayName("Should return 204 when no lessons found")
     void shouldReturnNoContentWhenNoLessons() throws Exception {
         // Given
-        Page<Lesson> emptyPage = Page.empty();
+        Page<LessonDTO> emptyPage = Page.empty();
         when(lessonService.listAllLessons(any(Pageable.class))).thenReturn(emptyPage);
 
         // When & Then
@@ -88,14 +101,39 @@ class LessonControllerTest {
         verify(lessonService, times(1)).listAllLessons(any(Pageable.class));
     }
 
+    @Test
+    @DisplayName("Should search lessons by name")
+    void shouldSearchLessons() throws Exception {
+        // Given
+        when(lessonService.searchLessons(eq("angular"), any(Pageable.class))).thenReturn(new PageImpl<>(List.of(lessonDTO)));
+
+        // When & Then
+        mockMvc.perform(get("/api/lessons/search")
+                        .param("q", "angular"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].name").value("Introduction to Angular"));
+
+        verify(lessonService, times(1)).searchLessons(eq("angular"), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("Should reject a blank search")
+    void shouldRejectBlankSearch() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/lessons/search")
+                        .param("q", " "))
+                .andExpect(status().isBadRequest());
+
+        verify(lessonService, never()).searchLessons(any(), any(Pageable.class));
+    }
+
     @Test
     @DisplayName("Should list lessons by course ID")
     void shouldListLessonsByCourse() throws Exception {
         // Given
-        List<Lesson> lessons = List.of(lesson);
-        Page<Lesson> lessonPage = new PageImpl<>(lessons);
+        List<LessonDTO> lessonDTOs = List.of(lessonDTO);
+        Page<LessonDTO> lessonPage = new PageImpl<>(lessonDTOs);
         when(lessonService.listLessonsByCourse(anyLong(), any(Pageable.class))).thenReturn(lessonPage);
-        when(lessonMapper.toLessonDTO(any(Lesson.class))).thenReturn(lessonDTO);
 
         // When & Then
         mockMvc.perform(get("/api/lessons/course/1")
@@ -107,12 +145,33 @@ class LessonControllerTest {
         verify(lessonService, times(1)).listLessonsByCourse(anyLong(), any(Pageable.class));
     }
 
+    @Test
+    @DisplayName("Should list lessons by course using cursor")
+    void shouldListLessonsByCourseUsingCursor() throws Exception {
+        // Given
+        Window<Lesson> window = Window.from(List.of(lesson),
+                index -> ScrollPosition.forward(Map.of("id", lesson.getId())), false);
+        when(lessonService.scrollLessonsByCourse(anyLong(), any(ScrollPosition.class), any(Sort.class), anyInt()))
+                .thenReturn(window);
+        when(lessonMapper.toLessonDTO(any(Lesson.class))).thenReturn(lessonDTO);
+
+        // When & Then
+        mockMvc.perform(get("/api/lessons/course/1")
+                        .param("after", "aWQKMQ")
+                        .param("sortBy", "id"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].name").value("Introduction to Angular"))
+                .andExpect(jsonPath("$.hasNext").value(false));
+
+        verify(lessonService, times(1))
+                .scrollLessonsByCourse(anyLong(), any(ScrollPosition.class), any(Sort.class), anyInt());
+    }
+
     @Test
     @DisplayName("Should get lesson by ID")
     void shouldGetLessonById() throws Exception {
         // Given
-        when(lessonService.findById(1L)).thenReturn(lesson);
-        when(lessonMapper.toLessonDTO(any(Lesson.class))).thenReturn(lessonDTO);
+        when(lessonService.findById(1L)).thenReturn(lessonDTO);
 
         // When & Then
         mockMvc.perform(get("/api/lessons/1"))
@@ -122,6 +181,33 @@ class LessonControllerTest {
         verify(lessonService, times(1)).findById(1L);
     }
 
+    @Test
+    @DisplayName("Should send the lesson version as ETag")
+    void shouldSendLessonVersionAsETag() throws Exception {
+        // Given
+        when(lessonService.findVersionById(1L)).thenReturn(2L);
+        when(lessonService.findById(1L)).thenReturn(lessonDTO);
+
+        // When & Then
+        mockMvc.perform(get("/api/lessons/1").header("If-None-Match", "\"1\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"2\""));
+    }
+
+    @Test
+    @DisplayName("Should answer 304 from the version without loading the lesson")
+    void shouldAnswerNotModifiedWithoutLoadingLesson() throws Exception {
+        // Given
+        when(lessonService.findVersionById(1L)).thenReturn(2L);
+
+        // When & Then
+        mockMvc.perform(get("/api/lessons/1").header("If-None-Match", "\"2\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verify(lessonService, never()).findById(anyLong());
+    }
+
     @Test
     @DisplayName("Should create lesson")
     void shouldCreateLesson() throws Exception {
@@ -201,7 +287,7 @@ class LessonControllerTest {
 
         when(lessonMapper.toLesson(any(LessonDTO.class))).thenReturn(lesson);
         when(lessonService.validateIdConsistency(anyLong(), any(Lesson.class))).thenReturn(true);
-        when(lessonService.updateLesson(anyLong(), any(Lesson.class))).thenReturn(lesson);
+        when(lessonService.updateLesson(anyLong(), any(Lesson.class), isNull())).thenReturn(lesson);
         when(lessonMapper.toLessonDTO(any(Lesson.class))).thenReturn(lessonDTO);
 
         // When & Then
@@ -211,7 +297,7 @@ class LessonControllerTest {
                 .andExpect(status().isOk());
 
         verify(lessonService, times(1)).validateIdConsistency(anyLong(), any(Lesson.class));
-        verify(lessonService, times(1)).updateLesson(anyLong(), any(Lesson.class));
+        verify(lessonService, times(1)).updateLesson(anyLong(), any(Lesson.class), isNull());
     }
 
     @Test
@@ -235,7 +321,79 @@ class LessonControllerTest {
                 .andExpect(status().isBadRequest());
 
         verify(lessonService, times(1)).validateIdConsistency(anyLong(), any(Lesson.class));
-        verify(lessonService, never()).updateLesson(anyLong(), any(Lesson.class));
+        verify(lessonService, never()).updateLesson(anyLong(), any(Lesson.class), isNull());
+    }
+
+    @Test
+    @DisplayName("Should return 412 when If-Match no longer matches the lesson")
+    void shouldReturnPreconditionFailedForStaleIfMatch() throws Exception {
+        // Given
+        when(lessonMapper.toLesson(any(LessonDTO.class))).thenReturn(lesson);
+        when(lessonService.validateIdConsistency(anyLong(), any(Lesson.class))).thenReturn(true);
+        when(lessonService.updateLesson(anyLong(), any(Lesson.class), eq(2L)))
+                .thenThrow(new PreconditionFailedException("Lição alterada desde a versão informada, id: 1"));
+
+        // When & Then
+        mockMvc.perform(put("/api/lessons/1")
+                        .header("If-Match", "\"2\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                    "name": "Advanced Angular Topics",
+                                    "youtubeUrl": "newVideo123"
+                                }
+                                """))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    @DisplayName("Should get many lessons by ids")
+    void shouldGetLessonsByIds() throws Exception {
+        // Given
+        when(lessonService.findByIds(List.of(2L, 1L)))
+                .thenReturn(new BatchResultDTO<>(List.of(new LessonDTO(1L, "Components", "abc123defgh")), List.of(2L)));
+
+        // When & Then
+        mockMvc.perform(get("/api/lessons/batch").param("ids", "2,1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.found[0].id").value(1))
+                .andExpect(jsonPath("$.missing[0]").value(2));
+
+        verify(lessonService, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("Should return 400 when fields is combined with count or after")
+    void shouldReturnBadRequestWhenFieldsIsCombinedWithCountOrAfter() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/lessons")
+                        .param("fields", "name")
+                        .param("after", "abc"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/lessons/course/1")
+                        .param("fields", "name")
+                        .param("count", "none"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(lessonService);
+    }
+
+    @Test
+    @DisplayName("Should return only the requested lesson fields")
+    void shouldReturnRequestedLessonFields() throws Exception {
+        // Given
+        when(lessonService.findById(eq(1L), eq(Map.of("youtubeUrl", "youtubeUrl"))))
+                .thenReturn(Map.of("youtubeUrl", "abc123defgh"));
+
+        // When & Then
+        mockMvc.perform(get("/api/lessons/1")
+                        .param("fields", "youtubeUrl"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.youtubeUrl").value("abc123defgh"))
+                .andExpect(jsonPath("$.name").doesNotExist());
+
+        verify(lessonService, never()).findVersionById(anyLong());
     }
 
     @Test
@@ -285,7 +443,7 @@ class LessonControllerTest {
     @DisplayName("Should apply pagination parameters correctly")
     void shouldApplyPaginationParameters() throws Exception {
         // Given
-        Page<Lesson> lessonPage = Page.empty();
+        Page<LessonDTO> lessonPage = Page.empty();
         when(lessonService.listAllLessons(any(Pageable.class))).thenReturn(lessonPage);
 
         // When & Then
@@ -0,0 +1,140 @@
+package com.camila.crud_spring.controller;
+
+import com.camila.crud_spring.dto.CourseDTO;
+import com.camila.crud_spring.dto.mapper.CursorMapper;
+import com.camila.crud_spring.enums.Category;
+import com.camila.crud_spring.enums.CountMode;
+import com.camila.crud_spring.exception.RecordNotFoundException;
+import com.camila.crud_spring.repository.CourseRepository;
+import com.camila.crud_spring.service.ReactiveCourseService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ReactiveCourseController.class)
+@Import(CursorMapper.class)
+@DisplayName("Reactive Course Controller Tests")
+class ReactiveCourseControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ReactiveCourseService courseService;
+
+    @MockitoBean
+    private CourseRepository courseRepository;
+
+    private CourseDTO courseDTO;
+
+    @BeforeEach
+    void setUp() {
+        courseDTO = new CourseDTO(1L, "Angular Basics", Category.FRONTEND);
+    }
+
+    @Test
+    @DisplayName("Should list active courses with pagination")
+    void shouldListActiveCourses() throws Exception {
+        // Given
+        Page<CourseDTO> page = new PageImpl<>(List.of(courseDTO));
+        when(courseService.listActiveCourses(any(Pageable.class))).thenReturn(Mono.just(page));
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/reactive/courses").param("page", "0").param("size", "10"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0]._id").value(1))
+                .andExpect(jsonPath("$.content[0].name").value("Angular Basics"));
+    }
+
+    @Test
+    @DisplayName("Should return no content when the page is empty")
+    void shouldReturnNoContentForEmptyPage() throws Exception {
+        // Given
+        when(courseService.listActiveCourses(any(Pageable.class))).thenReturn(Mono.just(Page.empty()));
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/reactive/courses")).andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result)).andExpect(status().isNoContent());
+    }
+
+    @Test
+    @DisplayName("Should return a slice with the exact total")
+    void shouldReturnSliceWithExactTotal() throws Exception {
+        // Given
+        when(courseService.sliceActiveCourses(any(Pageable.class)))
+                .thenReturn(Mono.just(new SliceImpl<>(List.of(courseDTO), Pageable.ofSize(10), false)));
+        when(courseService.countActiveCourses(CountMode.EXACT)).thenReturn(Mono.just(1L));
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/reactive/courses").param("count", "exact")).andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].name").value("Angular Basics"))
+                .andExpect(jsonPath("$.totalElements").value(1));
+    }
+
+    @Test
+    @DisplayName("Should return not found when the course does not exist")
+    void shouldReturnNotFound() throws Exception {
+        // Given
+        when(courseService.findActiveById(99L))
+                .thenReturn(Mono.error(new RecordNotFoundException("Curso não encontrado com id: ", 99L)));
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/reactive/courses/99")).andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("Curso não encontrado com id: 99"));
+    }
+
+    @Test
+    @DisplayName("Should stream active courses as newline-delimited JSON")
+    void shouldStreamCourses() throws Exception {
+        // Given
+        CourseDTO other = new CourseDTO(2L, "React Basics", Category.FRONTEND);
+        when(courseService.streamActiveCourses()).thenReturn(Flux.just(courseDTO, other));
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/reactive/courses/stream")).andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andExpect(content().string(containsString("\"name\":\"Angular Basics\"")))
+                .andExpect(content().string(containsString("\"name\":\"React Basics\"")))
+                .andExpect(content().string(matchesPattern("(?s)\\{[^\n]*}\n\\{[^\n]*}\n?")));
+    }
+}
@@ -0,0 +1,119 @@
+package com.camila.crud_spring.controller;
+
+import com.camila.crud_spring.dto.LessonDTO;
+import com.camila.crud_spring.dto.mapper.CursorMapper;
+import com.camila.crud_spring.enums.CountMode;
+import com.camila.crud_spring.exception.RecordNotFoundException;
+import com.camila.crud_spring.repository.CourseRepository;
+import com.camila.crud_spring.service.ReactiveLessonService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ReactiveLessonController.class)
+@Import(CursorMapper.class)
+@DisplayName("Reactive Lesson Controller Tests")
+class ReactiveLessonControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ReactiveLessonService lessonService;
+
+    @MockitoBean
+    private CourseRepository courseRepository;
+
+    private LessonDTO lessonDTO;
+
+    @BeforeEach
+    void setUp() {
+        lessonDTO = new LessonDTO(1L, "Introduction to Angular", "dQw4w9WgXcQ");
+    }
+
+    @Test
+    @DisplayName("Should list lessons of a course with pagination")
+    void shouldListLessonsByCourse() throws Exception {
+        // Given
+        when(lessonService.listLessonsByCourse(eq(1L), any(Pageable.class)))
+                .thenReturn(Mono.just(new PageImpl<>(List.of(lessonDTO))));
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/reactive/lessons/course/1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].name").value("Introduction to Angular"));
+    }
+
+    @Test
+    @DisplayName("Should omit the total when the count is skipped")
+    void shouldReturnSliceWithoutTotal() throws Exception {
+        // Given
+        when(lessonService.sliceAllLessons(any(Pageable.class)))
+                .thenReturn(Mono.just(new SliceImpl<>(List.of(lessonDTO), Pageable.ofSize(10), true)));
+        when(lessonService.countAllLessons(CountMode.NONE)).thenReturn(Mono.empty());
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/reactive/lessons").param("count", "none")).andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Should return not found when the lesson does not exist")
+    void shouldReturnNotFound() throws Exception {
+        // Given
+        when(lessonService.findById(99L))
+                .thenReturn(Mono.error(new RecordNotFoundException("Lição não encontrada com id: ", 99L)));
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/reactive/lessons/99")).andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result)).andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Should stream lessons of a course as newline-delimited JSON")
+    void shouldStreamLessonsByCourse() throws Exception {
+        // Given
+        when(lessonService.streamLessonsByCourse(1L)).thenReturn(Flux.just(lessonDTO));
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/reactive/lessons/course/1/stream")).andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andExpect(content().string(containsString("\"youtubeUrl\":\"dQw4w9WgXcQ\"")));
+    }
+}
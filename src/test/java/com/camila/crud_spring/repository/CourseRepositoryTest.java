@@ -1,24 +1,33 @@
 package com.camila.crud_spring.repository;
 
+import com.camila.crud_spring.dto.CourseDTO;
 import com.camila.crud_spring.enums.Category;
 import com.camila.crud_spring.enums.Status;
 import com.camila.crud_spring.model.Course;
 import com.camila.crud_spring.model.Lesson;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 @DisplayName("Course Repository Tests")
 class CourseRepositoryTest {
 
@@ -28,6 +37,9 @@ class CourseRepositoryTest {
     @Autowired
     private CourseRepository courseRepository;
 
+    @Autowired
+    private LessonRepository lessonRepository;
+
     private Course activeCourse;
     private Course inactiveCourse;
     private Lesson lesson1;
@@ -105,6 +117,37 @@ class CourseRepositoryTest {
         assertEquals(Status.INACTIVE, result.getContent().getFirst().getStatus());
     }
 
+    @Test
+    @DisplayName("Should scroll all courses by keyset on name")
+    void shouldScrollAllCoursesByKeyset() {
+        // Given
+        Sort sort = Sort.by("name").and(Sort.by("id"));
+
+        // When
+        Window<Course> first = courseRepository.findAllBy(ScrollPosition.keyset(), sort, Limit.of(1));
+        Window<Course> second = courseRepository.findAllBy(first.positionAt(0), sort, Limit.of(1));
+
+        // Then
+        assertEquals(1, first.size());
+        assertEquals("Angular Basics", first.getContent().getFirst().getName());
+        assertTrue(first.hasNext());
+        assertEquals("Java Basics", second.getContent().getFirst().getName());
+        assertFalse(second.hasNext());
+    }
+
+    @Test
+    @DisplayName("Should scroll only active courses by keyset")
+    void shouldScrollActiveCoursesByKeyset() {
+        // When
+        Window<Course> result = courseRepository.findByStatus(
+                Status.ACTIVE, ScrollPosition.keyset(), Sort.by("id"), Limit.of(10));
+
+        // Then
+        assertEquals(1, result.size());
+        assertEquals(Status.ACTIVE, result.getContent().getFirst().getStatus());
+        assertFalse(result.hasNext());
+    }
+
     @Test
     @DisplayName("Should find active course by ID and status")
     void shouldFindActiveCourseByIdAndStatus() {
@@ -140,6 +183,24 @@ class CourseRepositoryTest {
         assertEquals(2, result.get().getLessons().size());
     }
 
+    @Test
+    @DisplayName("Should find active courses with lessons by ids in one query")
+    void shouldFindActiveCoursesWithLessonsByIdsInOneQuery() {
+        // Given
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        List<Course> result = courseRepository.findAllWithLessonsByIdInAndStatus(
+                List.of(activeCourse.getId(), inactiveCourse.getId(), 999L), Status.ACTIVE);
+
+        // Then - the inactive and unknown ids are left out and the lessons come in the same query
+        assertEquals(1, result.size());
+        assertEquals(2, result.getFirst().getLessons().size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
     @Test
     @DisplayName("Should find active course with lessons")
     void shouldFindActiveCourseWithLessons() {
@@ -207,6 +268,60 @@ class CourseRepositoryTest {
         assertEquals(2, courseWithLessons.get().getLessons().size());
     }
 
+    @Test
+    @DisplayName("Should page courses with lessons in the database")
+    void shouldPageCoursesWithLessonsInDatabase() {
+        // Given
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        Pageable pageable = PageRequest.of(0, 1, Sort.by("name"));
+
+        // When
+        Page<Course> result = courseRepository.findAllWithLessons(pageable);
+
+        // Then - only the requested course and its two lessons are read
+        assertEquals(2, result.getTotalElements());
+        assertEquals(1, result.getContent().size());
+        assertEquals("Angular Basics", result.getContent().getFirst().getName());
+        assertEquals(2, result.getContent().getFirst().getLessons().size());
+        assertEquals(1, statistics.getEntityStatistics(Course.class.getName()).getLoadCount());
+        assertEquals(2, statistics.getEntityStatistics(Lesson.class.getName()).getLoadCount());
+        assertEquals(3, statistics.getQueryExecutionCount());
+    }
+
+    @Test
+    @DisplayName("Should slice courses without running a count query")
+    void shouldSliceCoursesWithoutCountQuery() {
+        // Given
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        Slice<CourseDTO> result = courseRepository.findAllCourseDTOSlice(PageRequest.of(0, 1, Sort.by("name")));
+
+        // Then
+        assertEquals(1, result.getContent().size());
+        assertTrue(result.hasNext());
+        assertEquals(1, statistics.getQueryExecutionCount());
+    }
+
+    @Test
+    @DisplayName("Should keep the requested order when paging courses with lessons")
+    void shouldKeepOrderWhenPagingCoursesWithLessons() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "name"));
+
+        // When
+        Page<Course> result = courseRepository.findAllWithLessons(pageable);
+
+        // Then
+        assertEquals(2, result.getContent().size());
+        assertEquals("Java Basics", result.getContent().get(0).getName());
+        assertEquals("Angular Basics", result.getContent().get(1).getName());
+    }
+
     @Test
     @DisplayName("Should handle course without lessons")
     void shouldHandleCourseWithoutLessons() {
@@ -229,6 +344,34 @@ class CourseRepositoryTest {
         assertFalse(result.isPresent());
     }
 
+    @Test
+    @DisplayName("Should batch inserts when persisting a course with 200 lessons")
+    void shouldBatchInsertsForCourseWithManyLessons() {
+        // Given
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+
+        Course newCourse = new Course();
+        newCourse.setName("Spring Batch Course");
+        newCourse.setCategory(Category.BACKEND);
+        newCourse.setStatus(Status.ACTIVE);
+        for (int i = 0; i < 200; i++) {
+            Lesson newLesson = new Lesson("Lesson " + i, "video" + i);
+            newLesson.setCourse(newCourse);
+            newCourse.getLessons().add(newLesson);
+        }
+        statistics.clear();
+
+        // When
+        courseRepository.save(newCourse);
+        entityManager.flush();
+
+        // Then - 201 rows written with a handful of statements instead of 201 round trips
+        assertEquals(201, statistics.getEntityInsertCount());
+        assertTrue(statistics.getPrepareStatementCount() <= 12,
+                "Expected batched inserts but got " + statistics.getPrepareStatementCount() + " statements");
+    }
+
     @Test
     @DisplayName("Should persist course with lessons correctly")
     void shouldPersistCourseWithLessons() {
@@ -256,4 +399,71 @@ class CourseRepositoryTest {
         assertEquals(1, result.get().getLessons().size());
         assertEquals("Introduction to React", result.get().getLessons().getFirst().getName());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should update status of a whole category in one statement")
+    void shouldUpdateStatusByCategory() {
+        // When
+        int updated = courseRepository.updateStatusByCategory(Category.BACKEND, Status.ACTIVE);
+
+        // Then
+        assertEquals(1, updated);
+        assertEquals(2, courseRepository.countByStatus(Status.ACTIVE));
+        assertEquals(Status.ACTIVE, courseRepository.findById(inactiveCourse.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    @DisplayName("Should update status of the given ids only")
+    void shouldUpdateStatusByIds() {
+        // When
+        int updated = courseRepository.updateStatusByIdIn(List.of(activeCourse.getId(), 999_999L), Status.INACTIVE);
+
+        // Then
+        assertEquals(1, updated);
+        assertEquals(0, courseRepository.countByStatus(Status.ACTIVE));
+    }
+
+    @Test
+    @DisplayName("Should delete a course and its lessons without loading them")
+    void shouldDeleteCourseAndLessonsWithoutLoadingThem() {
+        // Given
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        int lessons = lessonRepository.deleteByCourseIdIn(List.of(activeCourse.getId()));
+        int courses = courseRepository.hardDeleteByIdIn(List.of(activeCourse.getId(), inactiveCourse.getId()));
+
+        // Then
+        assertEquals(2, lessons);
+        assertEquals(2, courses);
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, courseRepository.count());
+        assertEquals(0, lessonRepository.count());
+    }
+
+    @Test
+    @DisplayName("Should page course DTOs without hydrating entities")
+    void shouldPageCourseDTOsWithoutHydratingEntities() {
+        // Given
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        Page<CourseDTO> active = courseRepository.findCourseDTOsByStatus(
+                Status.ACTIVE, PageRequest.of(0, 10, Sort.by("name")));
+        Slice<CourseDTO> all = courseRepository.findAllCourseDTOSlice(PageRequest.of(0, 1, Sort.by("name")));
+        Optional<CourseDTO> inactive = courseRepository.findCourseDTOByIdAndStatus(inactiveCourse.getId(), Status.ACTIVE);
+
+        // Then
+        assertEquals(1, active.getTotalElements());
+        assertEquals(new CourseDTO(activeCourse.getId(), "Angular Basics", Category.FRONTEND), active.getContent().getFirst());
+        assertEquals("Angular Basics", all.getContent().getFirst().name());
+        assertTrue(all.hasNext());
+        assertTrue(inactive.isEmpty());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+}
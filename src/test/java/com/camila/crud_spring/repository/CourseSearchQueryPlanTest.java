@@ -0,0 +1,151 @@
+package com.camila.crud_spring.repository;
+
+import com.camila.crud_spring.enums.Category;
+import com.camila.crud_spring.enums.Status;
+import com.camila.crud_spring.model.Course;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs every filter combination of the course search, captures the SQL Hibernate sends and checks
+ * with H2's {@code EXPLAIN} that both the page query and its count query are served by an index.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.camila.crud_spring.repository.CourseSearchQueryPlanTest$CapturingStatementInspector")
+@DisplayName("Course Search Query Plan Tests")
+class CourseSearchQueryPlanTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        Category[] categories = Category.values();
+        IntStream.range(0, 200).forEach(index -> {
+            Course course = new Course();
+            course.setName("Course %03d".formatted(index));
+            course.setCategory(categories[index % categories.length]);
+            course.setStatus(index % 4 == 0 ? Status.INACTIVE : Status.ACTIVE);
+            entityManager.persist(course);
+        });
+        entityManager.flush();
+        entityManager.clear();
+        CapturingStatementInspector.STATEMENTS.clear();
+    }
+
+    static Stream<Arguments> filters() {
+        return Stream.of(
+                Arguments.of(Status.ACTIVE, null, null, "IDX_COURSE_STATUS_NAME"),
+                Arguments.of(null, Category.BACKEND, null, "IDX_COURSE_CATEGORY_NAME"),
+                Arguments.of(null, null, "Course 1", "IDX_COURSE_NAME"),
+                Arguments.of(Status.ACTIVE, Category.BACKEND, null, "IDX_COURSE_STATUS_CATEGORY_NAME"),
+                Arguments.of(Status.ACTIVE, null, "Course 1", "IDX_COURSE_STATUS_NAME"),
+                Arguments.of(null, Category.BACKEND, "Course 1", "IDX_COURSE_CATEGORY_NAME"),
+                Arguments.of(Status.ACTIVE, Category.BACKEND, "Course 1", "IDX_COURSE_STATUS_CATEGORY_NAME"));
+    }
+
+    @ParameterizedTest(name = "status={0}, category={1}, name={2}")
+    @MethodSource("filters")
+    @DisplayName("Should serve each filter combination from an index")
+    void shouldUseIndexForFilters(Status status, Category category, String name, String index) throws SQLException {
+        // When
+        Page<Course> result = courseRepository.findAll(CourseSpecifications.search(status, category, name),
+                PageRequest.of(0, 5, Sort.by("name")));
+
+        // Then
+        assertFalse(result.isEmpty());
+        List<String> statements = List.copyOf(CapturingStatementInspector.STATEMENTS);
+        assertEquals(2, statements.size(), () -> "Expected page and count queries: " + statements);
+        for (String sql : statements) {
+            String plan = explain(sql);
+            assertTrue(plan.contains(index), () -> "Expected " + index + " in plan:\n" + plan);
+            assertFalse(plan.contains("tableScan"), () -> "Unexpected table scan:\n" + plan);
+        }
+    }
+
+    @ParameterizedTest(name = "status={0}, category={1}, name={2}")
+    @MethodSource("filters")
+    @DisplayName("Should only return courses matching every filter")
+    void shouldApplyEveryFilter(Status status, Category category, String name, String index) {
+        // When
+        List<Course> result = courseRepository.findAll(CourseSpecifications.search(status, category, name));
+
+        // Then
+        assertFalse(result.isEmpty());
+        result.forEach(course -> {
+            if (status != null) {
+                assertEquals(status, course.getStatus());
+            }
+            if (category != null) {
+                assertEquals(category, course.getCategory());
+            }
+            if (name != null) {
+                assertTrue(course.getName().startsWith(name));
+            }
+        });
+    }
+
+    private String explain(String sql) throws SQLException {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+            ParameterMetaData parameters = statement.getParameterMetaData();
+            for (int i = 1; i <= parameters.getParameterCount(); i++) {
+                if (parameters.getParameterType(i) == Types.VARCHAR) {
+                    statement.setString(i, "Course 1%");
+                } else {
+                    statement.setInt(i, 1);
+                }
+            }
+            try (ResultSet plan = statement.executeQuery()) {
+                plan.next();
+                return plan.getString(1);
+            }
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    public static class CapturingStatementInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            if (sql.toLowerCase().startsWith("select") && sql.contains("course")) {
+                STATEMENTS.add(sql);
+            }
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.camila.crud_spring.repository;
+
+import com.camila.crud_spring.enums.Category;
+import com.camila.crud_spring.enums.Status;
+import com.camila.crud_spring.model.Course;
+import com.camila.crud_spring.model.Lesson;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({FieldProjectionRepository.class, FieldProjectionRepositoryTest.SqlCaptureConfig.class})
+@DisplayName("Field Projection Repository Tests")
+class FieldProjectionRepositoryTest {
+
+    private static final List<String> statements = new CopyOnWriteArrayList<>();
+
+    @Autowired
+    private FieldProjectionRepository fieldProjectionRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private LessonRepository lessonRepository;
+
+    private Course angular;
+
+    @BeforeEach
+    void setUp() {
+        lessonRepository.deleteAllInBatch();
+        courseRepository.deleteAllInBatch();
+
+        angular = course("Angular Basics", Category.FRONTEND, Status.ACTIVE, "Components", "Routing");
+        courseRepository.saveAll(List.of(
+                angular,
+                course("Spring Boot", Category.BACKEND, Status.ACTIVE),
+                course("Legacy Course", Category.BACKEND, Status.INACTIVE)));
+        courseRepository.flush();
+        statements.clear();
+    }
+
+    @Test
+    @DisplayName("Should select only the requested course columns")
+    void shouldSelectOnlyRequestedCourseColumns() {
+        // When
+        Page<Map<String, Object>> page = fieldProjectionRepository.findAll(
+                Course.class,
+                CourseSpecifications.hasStatus(Status.ACTIVE),
+                fields("name", "name"),
+                PageRequest.of(0, 10, Sort.by("name")));
+
+        // Then
+        assertEquals(List.of(Map.of("name", "Angular Basics"), Map.of("name", "Spring Boot")), page.getContent());
+        assertEquals(2, page.getTotalElements());
+        String select = selectClause(statements.getFirst());
+        assertTrue(select.contains("name"), select);
+        assertFalse(select.contains("category") || select.contains("version") || select.contains("status"), select);
+    }
+
+    @Test
+    @DisplayName("Should count rows only when the page is full")
+    void shouldCountOnlyWhenPageIsFull() {
+        // When
+        Page<Map<String, Object>> firstPage = fieldProjectionRepository.findAll(
+                Course.class, null, fields("_id", "id"), PageRequest.of(0, 2, Sort.by("id")));
+        int statementsForFirstPage = statements.size();
+        statements.clear();
+        Page<Map<String, Object>> wholePage = fieldProjectionRepository.findAll(
+                Course.class, null, fields("_id", "id"), PageRequest.of(0, 10, Sort.by("id")));
+
+        // Then
+        assertEquals(3, firstPage.getTotalElements());
+        assertEquals(2, statementsForFirstPage);
+        assertEquals(3, wholePage.getTotalElements());
+        assertEquals(1, statements.size());
+    }
+
+    @Test
+    @DisplayName("Should filter lessons by course without joining the course table")
+    void shouldFilterLessonsByCourseWithoutJoin() {
+        // When
+        List<Map<String, Object>> lessons = fieldProjectionRepository.findAll(
+                Lesson.class,
+                LessonSpecifications.hasCourseIdIn(List.of(angular.getId())),
+                fields("name", "name", "courseId", "course.id"),
+                Sort.by("id"));
+
+        // Then
+        assertEquals(2, lessons.size());
+        assertEquals("Components", lessons.get(0).get("name"));
+        assertEquals(angular.getId(), lessons.get(0).get("courseId"));
+        String sql = statements.getFirst().toLowerCase();
+        assertFalse(sql.contains("join"), sql);
+        assertFalse(selectClause(sql).contains("youtube_url"), sql);
+    }
+
+    @Test
+    @DisplayName("Should return an empty result for a missing row")
+    void shouldReturnEmptyForMissingRow() {
+        // When & Then
+        assertTrue(fieldProjectionRepository.findOne(
+                Course.class, CourseSpecifications.hasId(-1L), fields("name", "name")).isEmpty());
+        assertEquals("Front-end", fieldProjectionRepository.findOne(
+                        Course.class, CourseSpecifications.hasId(angular.getId()), fields("category", "category"))
+                .map(course -> ((Category) course.get("category")).getValue())
+                .orElseThrow());
+    }
+
+    private static Course course(String name, Category category, Status status, String... lessonNames) {
+        Course course = new Course();
+        course.setName(name);
+        course.setCategory(category);
+        course.setStatus(status);
+        List<Lesson> lessons = new ArrayList<>();
+        for (int i = 0; i < lessonNames.length; i++) {
+            Lesson lesson = new Lesson(lessonNames[i], "video%06d".formatted(i));
+            lesson.setCourse(course);
+            lessons.add(lesson);
+        }
+        course.setLessons(lessons);
+        return course;
+    }
+
+    private static Map<String, String> fields(String... namesAndAttributes) {
+        Map<String, String> fields = new LinkedHashMap<>();
+        for (int i = 0; i < namesAndAttributes.length; i += 2) {
+            fields.put(namesAndAttributes[i], namesAndAttributes[i + 1]);
+        }
+        return fields;
+    }
+
+    private static String selectClause(String sql) {
+        String lower = sql.toLowerCase();
+        return lower.substring(0, lower.indexOf(" from "));
+    }
+
+    @TestConfiguration
+    static class SqlCaptureConfig {
+
+        @Bean
+        HibernatePropertiesCustomizer sqlCapture() {
+            StatementInspector inspector = sql -> {
+                statements.add(sql);
+                return sql;
+            };
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, inspector);
+        }
+    }
+}
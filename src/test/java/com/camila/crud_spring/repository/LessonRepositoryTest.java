@@ -1,5 +1,6 @@
 package com.camila.crud_spring.repository;
 
+import com.camila.crud_spring.dto.LessonDTO;
 import com.camila.crud_spring.enums.Category;
 import com.camila.crud_spring.enums.Status;
 import com.camila.crud_spring.model.Course;
@@ -10,10 +11,15 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -118,6 +124,23 @@ class LessonRepositoryTest {
         assertTrue(result.getContent().isEmpty());
     }
 
+    @Test
+    @DisplayName("Should scroll lessons of a course by keyset")
+    void shouldScrollLessonsByCourseWithKeyset() {
+        // Given
+        Sort sort = Sort.by("name").and(Sort.by("id"));
+
+        // When
+        Window<Lesson> first = lessonRepository.findByCourseId(course1.getId(), ScrollPosition.keyset(), sort, Limit.of(1));
+        Window<Lesson> second = lessonRepository.findByCourseId(course1.getId(), first.positionAt(0), sort, Limit.of(1));
+
+        // Then
+        assertEquals("Angular Components", first.getContent().getFirst().getName());
+        assertTrue(first.hasNext());
+        assertEquals("Introduction to Angular", second.getContent().getFirst().getName());
+        assertFalse(second.hasNext());
+    }
+
     @Test
     @DisplayName("Should find lessons by name containing ignore case")
     void shouldFindLessonsByNameContainingIgnoreCase() {
@@ -275,4 +298,20 @@ class LessonRepositoryTest {
         assertTrue(result.isPresent());
         assertEquals(originalCourseId, result.get().getCourse().getId());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should page lesson DTOs of a course sorted by name")
+    void shouldPageLessonDTOsOfCourse() {
+        // When
+        Page<LessonDTO> lessons = lessonRepository.findLessonDTOsByCourseId(
+                course1.getId(), PageRequest.of(0, 10, Sort.by("name")));
+        Optional<LessonDTO> lesson = lessonRepository.findLessonDTOById(lesson3.getId());
+
+        // Then
+        assertEquals(2, lessons.getTotalElements());
+        assertEquals(List.of(
+                new LessonDTO(lesson2.getId(), "Angular Components", "angular6789"),
+                new LessonDTO(lesson1.getId(), "Introduction to Angular", "angular1234")), lessons.getContent());
+        assertEquals("Introduction to React", lesson.orElseThrow().name());
+    }
+}
@@ -0,0 +1,156 @@
+package com.camila.crud_spring.repository;
+
+import com.camila.crud_spring.dto.CourseDTO;
+import com.camila.crud_spring.dto.LessonDTO;
+import com.camila.crud_spring.enums.Category;
+import com.camila.crud_spring.enums.Status;
+import com.camila.crud_spring.model.Course;
+import com.camila.crud_spring.model.Lesson;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:reactive;DB_CLOSE_DELAY=-1",
+        "spring.r2dbc.url=r2dbc:h2:mem:///reactive?options=DB_CLOSE_DELAY=-1"
+})
+@ActiveProfiles("dev")
+@DisplayName("Reactive Course Repository Tests")
+class ReactiveCourseRepositoryTest {
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private ReactiveCourseRepository reactiveCourseRepository;
+
+    @Autowired
+    private ReactiveLessonRepository reactiveLessonRepository;
+
+    private Course angular;
+    private Course react;
+    private Course vue;
+
+    @BeforeEach
+    void setUp() {
+        courseRepository.deleteAll();
+
+        angular = courseRepository.save(course("Angular Basics", Category.FRONTEND, Status.ACTIVE, "Components", "Services"));
+        react = courseRepository.save(course("React Basics", Category.FRONTEND, Status.ACTIVE, "Hooks"));
+        vue = courseRepository.save(course("Vue Basics", Category.FRONTEND, Status.INACTIVE));
+    }
+
+    @Test
+    @DisplayName("Should read a sorted page of active courses")
+    void shouldFindActiveCoursePage() {
+        // When
+        List<CourseDTO> courses = reactiveCourseRepository
+                .findCourseDTOs(Status.ACTIVE, Sort.by(Sort.Direction.DESC, "name"), 0, 10)
+                .collectList().block();
+        Long total = reactiveCourseRepository.count(Status.ACTIVE).block();
+
+        // Then
+        assertEquals(List.of("React Basics", "Angular Basics"), courses.stream().map(CourseDTO::name).toList());
+        assertEquals(Category.FRONTEND, courses.getFirst().category());
+        assertEquals(2L, total);
+    }
+
+    @Test
+    @DisplayName("Should read courses of every status when no status is given")
+    void shouldFindAllCourses() {
+        // When
+        List<CourseDTO> courses = reactiveCourseRepository
+                .findCourseDTOs(null, Sort.by("name"), 1, 10)
+                .collectList().block();
+
+        // Then
+        assertEquals(List.of("React Basics", "Vue Basics"), courses.stream().map(CourseDTO::name).toList());
+        assertEquals(3L, reactiveCourseRepository.count(null).block());
+    }
+
+    @Test
+    @DisplayName("Should continue after the keyset of the last course")
+    void shouldFindCoursesAfterKeyset() {
+        // When
+        List<CourseDTO> courses = reactiveCourseRepository
+                .findCourseDTOsAfter(null, Map.of("name", "Angular Basics", "id", angular.getId()),
+                        Sort.by("name").and(Sort.by("id")), 10)
+                .collectList().block();
+
+        // Then
+        assertEquals(List.of(react.getId(), vue.getId()), courses.stream().map(CourseDTO::id).toList());
+    }
+
+    @Test
+    @DisplayName("Should find an active course by id and ignore inactive ones")
+    void shouldFindActiveCourseById() {
+        assertEquals("Angular Basics", reactiveCourseRepository.findCourseDTOById(angular.getId(), Status.ACTIVE).block().name());
+        assertNull(reactiveCourseRepository.findCourseDTOById(vue.getId(), Status.ACTIVE).block());
+        assertNotNull(reactiveCourseRepository.findCourseDTOById(vue.getId(), null).block());
+    }
+
+    @Test
+    @DisplayName("Should group lessons by course id")
+    void shouldGroupLessonsByCourse() {
+        // When
+        Map<Long, Collection<LessonDTO>> lessons = reactiveLessonRepository
+                .findLessonDTOsByCourseIds(List.of(angular.getId(), react.getId(), vue.getId()))
+                .block();
+
+        // Then
+        assertEquals(List.of("Components", "Services"), lessons.get(angular.getId()).stream().map(LessonDTO::name).toList());
+        assertEquals(1, lessons.get(react.getId()).size());
+        assertFalse(lessons.containsKey(vue.getId()));
+    }
+
+    @Test
+    @DisplayName("Should page, count and stream lessons of a course")
+    void shouldReadLessonsOfCourse() {
+        // When
+        List<LessonDTO> page = reactiveLessonRepository
+                .findLessonDTOs(angular.getId(), Sort.by(Sort.Direction.DESC, "name"), 0, 1)
+                .collectList().block();
+        List<LessonDTO> streamed = reactiveLessonRepository.streamLessonDTOsByCourseId(angular.getId())
+                .collectList().block();
+
+        // Then
+        assertEquals(List.of("Services"), page.stream().map(LessonDTO::name).toList());
+        assertEquals(2L, reactiveLessonRepository.count(angular.getId()).block());
+        assertEquals(3L, reactiveLessonRepository.count(null).block());
+        assertEquals(2, streamed.size());
+    }
+
+    @Test
+    @DisplayName("Should reject sort properties outside the column whitelist")
+    void shouldRejectUnknownSortProperty() {
+        Sort sort = Sort.by("name; DROP TABLE course");
+        assertThrows(InvalidDataAccessApiUsageException.class,
+                () -> reactiveCourseRepository.findCourseDTOs(null, sort, 0, 10));
+    }
+
+    private static Course course(String name, Category category, Status status, String... lessonNames) {
+        Course course = new Course();
+        course.setName(name);
+        course.setCategory(category);
+        course.setStatus(status);
+        for (String lessonName : lessonNames) {
+            Lesson lesson = new Lesson();
+            lesson.setName(lessonName);
+            lesson.setYoutubeUrl("abcdefghijk");
+            lesson.setCourse(course);
+            course.getLessons().add(lesson);
+        }
+        return course;
+    }
+}
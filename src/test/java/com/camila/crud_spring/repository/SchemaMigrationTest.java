@@ -0,0 +1,78 @@
+package com.camila.crud_spring.repository;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.flywaydb.core.api.MigrationState;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The schema comes from the Flyway migrations and Hibernate only validates it, so a context that
+ * starts at all means the entities and the migrations agree.
+ */
+@DataJpaTest
+@DisplayName("Schema Migration Tests")
+class SchemaMigrationTest {
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Should apply every migration")
+    void shouldApplyEveryMigration() {
+        // When
+        MigrationInfo[] applied = flyway.info().applied();
+
+        // Then
+        assertEquals(List.of("1", "2", "3", "4"), Arrays.stream(applied).map(info -> info.getVersion().getVersion()).toList());
+        assertTrue(Arrays.stream(applied).allMatch(info -> info.getState() == MigrationState.SUCCESS));
+        assertEquals(0, flyway.info().pending().length);
+    }
+
+    @Test
+    @DisplayName("Should create the query indexes")
+    void shouldCreateQueryIndexes() {
+        // When
+        List<String> indexes = jdbcTemplate.queryForList(
+                "SELECT INDEX_NAME FROM INFORMATION_SCHEMA.INDEXES WHERE INDEX_NAME LIKE 'IDX_%'", String.class);
+
+        // Then
+        assertTrue(indexes.containsAll(List.of(
+                "IDX_COURSE_STATUS_NAME", "IDX_COURSE_STATUS_CATEGORY_NAME", "IDX_COURSE_CATEGORY_NAME",
+                "IDX_COURSE_NAME", "IDX_LESSON_NAME", "IDX_LESSON_COURSE_NAME", "IDX_LESSON_YOUTUBE_URL")),
+                () -> "Indexes found: " + indexes);
+    }
+
+    @Test
+    @DisplayName("Should look lessons up by YouTube URL through its index")
+    void shouldUseIndexForYoutubeUrlLookup() {
+        // When
+        String plan = jdbcTemplate.queryForObject(
+                "EXPLAIN SELECT id FROM lesson WHERE youtube_url = 'angular1234'", String.class);
+
+        // Then
+        assertTrue(plan.contains("IDX_LESSON_YOUTUBE_URL"), () -> "Unexpected plan:\n" + plan);
+    }
+
+    @Test
+    @DisplayName("Should look lessons up by course without a table scan")
+    void shouldUseIndexForCourseLookup() {
+        // When
+        String plan = jdbcTemplate.queryForObject(
+                "EXPLAIN SELECT id, name, youtube_url FROM lesson WHERE course_id = 1 ORDER BY name", String.class);
+
+        // Then
+        assertFalse(plan.contains("tableScan"), () -> "Unexpected table scan:\n" + plan);
+    }
+}
@@ -0,0 +1,185 @@
+package com.camila.crud_spring.repository;
+
+import com.camila.crud_spring.enums.Category;
+import com.camila.crud_spring.enums.Status;
+import com.camila.crud_spring.model.Course;
+import com.camila.crud_spring.model.Lesson;
+import jakarta.persistence.EntityManagerFactory;
+import com.camila.crud_spring.service.ApproximateCountService;
+import com.camila.crud_spring.service.CourseResponseCache;
+import com.camila.crud_spring.service.LessonSearchIndex;
+import com.camila.crud_spring.service.LessonService;
+import com.camila.crud_spring.service.OptimisticUpdateExecutor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("cache")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({LessonService.class, OptimisticUpdateExecutor.class, FieldProjectionRepository.class})
+@DisplayName("Second Level Cache Tests")
+class SecondLevelCacheTest {
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private LessonRepository lessonRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private LessonService lessonService;
+
+    @MockitoBean
+    private ApproximateCountService approximateCountService;
+
+    @MockitoBean
+    private CourseResponseCache courseResponseCache;
+
+    @MockitoBean
+    private LessonSearchIndex lessonSearchIndex;
+
+    private TransactionTemplate transactionTemplate;
+    private Statistics statistics;
+    private Course course;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        lessonRepository.deleteAll();
+        courseRepository.deleteAll();
+
+        course = new Course();
+        course.setName("Angular Basics");
+        course.setCategory(Category.FRONTEND);
+        course.setStatus(Status.ACTIVE);
+
+        Lesson lesson = new Lesson("Introduction to Angular", "angular1234");
+        lesson.setCourse(course);
+        course.getLessons().add(lesson);
+        course = courseRepository.save(course);
+
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Should serve repeated active course lookups from the cache")
+    void shouldServeRepeatedLookupsFromCache() {
+        // When
+        courseRepository.findByIdAndStatus(course.getId(), Status.ACTIVE);
+        courseRepository.findByIdAndStatus(course.getId(), Status.ACTIVE);
+
+        // Then
+        assertEquals(1, statistics.getQueryCacheHitCount());
+        assertEquals(1, statistics.getQueryCacheMissCount());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Should serve repeated lookups by id from the entity cache")
+    void shouldServeRepeatedLookupsByIdFromEntityCache() {
+        // When
+        courseRepository.findById(course.getId());
+        courseRepository.findById(course.getId());
+
+        // Then
+        assertEquals(1, statistics.getSecondLevelCacheHitCount());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Should evict the lessons collection when a lesson is added to the course")
+    void shouldEvictLessonsCollectionWhenLessonIsAdded() {
+        // Given - warm up the course and its lessons collection
+        assertEquals(1, countLessons());
+
+        Lesson newLesson = new Lesson("Angular Components", "angular6789");
+        newLesson.setCourse(courseRepository.findById(course.getId()).orElseThrow());
+
+        // When
+        lessonRepository.save(newLesson);
+
+        // Then
+        assertEquals(2, countLessons());
+    }
+
+    @Test
+    @DisplayName("Should not return a cached course after it is updated")
+    void shouldNotReturnStaleCourseAfterUpdate() {
+        // Given
+        assertTrue(courseRepository.findByIdAndStatus(course.getId(), Status.ACTIVE).isPresent());
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            Course managed = courseRepository.findById(course.getId()).orElseThrow();
+            managed.setStatus(Status.INACTIVE);
+        });
+
+        // Then
+        assertTrue(courseRepository.findByIdAndStatus(course.getId(), Status.ACTIVE).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should not return a cached course after a bulk status update")
+    void shouldNotReturnStaleCourseAfterBulkUpdate() {
+        // Given
+        assertTrue(courseRepository.findByIdAndStatus(course.getId(), Status.ACTIVE).isPresent());
+
+        // When
+        transactionTemplate.executeWithoutResult(status ->
+                courseRepository.updateStatusByCategory(Category.FRONTEND, Status.INACTIVE));
+
+        // Then
+        assertTrue(courseRepository.findByIdAndStatus(course.getId(), Status.ACTIVE).isEmpty());
+        assertEquals(Status.INACTIVE, courseRepository.findById(course.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    @DisplayName("Should keep other courses cached when a lesson is written")
+    void shouldKeepOtherCoursesCachedOnLessonWrite() {
+        // Given - another course is in the entity cache
+        Course otherCourse = new Course();
+        otherCourse.setName("Spring Boot");
+        otherCourse.setCategory(Category.BACKEND);
+        otherCourse = courseRepository.save(otherCourse);
+        courseRepository.findById(otherCourse.getId());
+
+        // When
+        lessonService.createLesson(new Lesson("Angular Components", "angular6789"), course.getId());
+        statistics.clear();
+
+        // Then - only the course that owns the lesson is read again
+        assertTrue(entityManagerFactory.getCache().contains(Course.class, otherCourse.getId()));
+        courseRepository.findById(otherCourse.getId());
+        assertEquals(1, statistics.getSecondLevelCacheHitCount());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(1L, courseRepository.findVersionById(course.getId()).orElseThrow());
+    }
+
+    private int countLessons() {
+        return transactionTemplate.execute(status ->
+                courseRepository.findById(course.getId()).orElseThrow().getLessons().size());
+    }
+}
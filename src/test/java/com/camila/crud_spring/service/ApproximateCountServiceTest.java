@@ -0,0 +1,66 @@
+package com.camila.crud_spring.service;
+
+import com.camila.crud_spring.enums.Status;
+import com.camila.crud_spring.repository.CourseRepository;
+import com.camila.crud_spring.repository.LessonRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Approximate Count Service Tests")
+class ApproximateCountServiceTest {
+
+    @Mock
+    private CourseRepository courseRepository;
+
+    @Mock
+    private LessonRepository lessonRepository;
+
+    private ApproximateCountService approximateCountService;
+
+    @BeforeEach
+    void setUp() {
+        approximateCountService = new ApproximateCountService(
+                courseRepository, lessonRepository, Duration.ofMinutes(5), 100, Runnable::run);
+    }
+
+    @Test
+    @DisplayName("Should count once and serve repeated requests from cache")
+    void shouldServeRepeatedRequestsFromCache() {
+        // Given
+        when(courseRepository.countByStatus(Status.ACTIVE)).thenReturn(31L);
+
+        // When
+        long first = approximateCountService.countActiveCourses();
+        long second = approximateCountService.countActiveCourses();
+
+        // Then
+        assertEquals(31L, first);
+        assertEquals(31L, second);
+        verify(courseRepository, times(1)).countByStatus(Status.ACTIVE);
+    }
+
+    @Test
+    @DisplayName("Should keep separate counts per course")
+    void shouldKeepSeparateCountsPerCourse() {
+        // Given
+        when(lessonRepository.countByCourseId(1L)).thenReturn(2L);
+        when(lessonRepository.countByCourseId(2L)).thenReturn(5L);
+
+        // When & Then
+        assertEquals(2L, approximateCountService.countLessonsByCourse(1L));
+        assertEquals(5L, approximateCountService.countLessonsByCourse(2L));
+        assertEquals(2L, approximateCountService.countLessonsByCourse(1L));
+        verify(lessonRepository, times(1)).countByCourseId(1L);
+        verify(lessonRepository, times(1)).countByCourseId(2L);
+    }
+}
@@ -0,0 +1,112 @@
+package com.camila.crud_spring.service;
+
+import com.camila.crud_spring.dto.mapper.CourseMapper;
+import com.camila.crud_spring.enums.Category;
+import com.camila.crud_spring.enums.ExportFormat;
+import com.camila.crud_spring.enums.Status;
+import com.camila.crud_spring.model.Course;
+import com.camila.crud_spring.model.Lesson;
+import com.camila.crud_spring.repository.CourseRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@DisplayName("Course Export Service Tests")
+class CourseExportServiceTest {
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private CourseExportService courseExportService;
+
+    @BeforeEach
+    void setUp() {
+        courseRepository.deleteAll();
+
+        courseRepository.save(createCourse("Angular Basics", Status.ACTIVE, 3));
+        courseRepository.save(createCourse("Spring Boot", Status.INACTIVE, 0));
+        courseRepository.save(createCourse("Docker Essentials", Status.ACTIVE, 2));
+        entityManager.flush();
+        entityManager.clear();
+
+        courseExportService = new CourseExportService(courseRepository, new CourseMapper(), objectMapper, entityManager);
+    }
+
+    @Test
+    @DisplayName("Should export every course once as NDJSON")
+    void shouldExportEveryCourseOnceAsNdjson() throws IOException {
+        // Given
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // When
+        long exported = courseExportService.exportCourses(ExportFormat.NDJSON, output);
+
+        // Then
+        List<String> lines = output.toString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals(3, exported);
+        assertEquals(3, lines.size());
+
+        List<JsonNode> courses = lines.stream().map(this::readTree).toList();
+        assertEquals(List.of("Angular Basics", "Spring Boot", "Docker Essentials"),
+                courses.stream().map(course -> course.get("course").get("name").asText()).toList());
+        assertEquals(List.of(3, 0, 2),
+                courses.stream().map(course -> course.get("lessons").size()).toList());
+    }
+
+    @Test
+    @DisplayName("Should export a JSON array and leave nothing in the persistence context")
+    void shouldExportJsonArrayAndDetachCourses() throws IOException {
+        // Given
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // When
+        courseExportService.exportCourses(ExportFormat.JSON, output);
+
+        // Then
+        JsonNode courses = objectMapper.readTree(output.toByteArray());
+        assertTrue(courses.isArray());
+        assertEquals(3, courses.size());
+        assertEquals(0, entityManager.unwrap(Session.class)
+                .getStatistics().getEntityCount());
+    }
+
+    private JsonNode readTree(String line) {
+        try {
+            return objectMapper.readTree(line);
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private Course createCourse(String name, Status status, int lessons) {
+        Course course = new Course();
+        course.setName(name);
+        course.setCategory(Category.BACKEND);
+        course.setStatus(status);
+        for (int i = 0; i < lessons; i++) {
+            Lesson lesson = new Lesson(name + " " + i, "abcdefghij" + i);
+            lesson.setCourse(course);
+            course.getLessons().add(lesson);
+        }
+        return course;
+    }
+}
@@ -0,0 +1,127 @@
+package com.camila.crud_spring.service;
+
+import com.camila.crud_spring.dto.ImportResultDTO;
+import com.camila.crud_spring.dto.ImportSummaryDTO;
+import com.camila.crud_spring.dto.mapper.CourseMapper;
+import com.camila.crud_spring.enums.ImportStatus;
+import com.camila.crud_spring.repository.CourseRepository;
+import com.camila.crud_spring.repository.LessonRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Course Import Service Tests")
+class CourseImportServiceTest {
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private LessonRepository lessonRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private CourseImportService courseImportService;
+
+    @BeforeEach
+    void setUp() {
+        lessonRepository.deleteAll();
+        courseRepository.deleteAll();
+
+        courseImportService = new CourseImportService(
+                courseRepository,
+                new CourseMapper(),
+                mock(LessonSearchIndex.class),
+                new ObjectMapper(),
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                entityManager,
+                transactionManager,
+                2);
+    }
+
+    @Test
+    @DisplayName("Should import valid lines and report invalid ones")
+    void shouldImportValidLinesAndReportInvalidOnes() throws IOException {
+        // Given
+        String ndjson = """
+                {"name": "Angular Basics", "category": "Front-end", "lessons": [{"name": "Introduction", "youtubeUrl": "angular1234"}]}
+                {"name": "AB", "category": "Front-end"}
+                not json
+
+                {"_id": 99, "name": "Spring Boot", "category": "Back-end"}
+                {"name": "Docker Essentials", "category": "Back-end"}
+                """;
+        List<ImportResultDTO> results = new ArrayList<>();
+
+        // When
+        ImportSummaryDTO summary = courseImportService.importCourses(toStream(ndjson), results::add);
+
+        // Then
+        assertEquals(new ImportSummaryDTO(5, 3, 2), summary);
+        assertEquals(3, courseRepository.count());
+        assertEquals(1, lessonRepository.count());
+
+        List<ImportResultDTO> failed = results.stream()
+                .filter(result -> result.status() == ImportStatus.FAILED)
+                .toList();
+        assertEquals(List.of(2L, 3L), failed.stream().map(ImportResultDTO::line).toList());
+        assertTrue(failed.get(0).errors().get(0).startsWith("name:"));
+
+        List<ImportResultDTO> created = results.stream()
+                .filter(result -> result.status() == ImportStatus.CREATED)
+                .toList();
+        assertEquals(List.of(1L, 5L, 6L), created.stream().map(ImportResultDTO::line).toList());
+        created.forEach(result -> assertTrue(courseRepository.existsById(result.id())));
+        assertNotEquals(99L, created.get(1).id());
+    }
+
+    @Test
+    @DisplayName("Should isolate a failing record inside a chunk")
+    void shouldIsolateFailingRecordInsideChunk() throws IOException {
+        // Given - the second lesson violates the youtube_url column length
+        String ndjson = """
+                {"name": "Angular Basics", "category": "Front-end"}
+                {"name": "Spring Boot", "category": "Back-end", "lessons": [{"name": "Too long", "youtubeUrl": "abcdefghijklmnop"}]}
+                """;
+        List<ImportResultDTO> results = new ArrayList<>();
+
+        // When
+        ImportSummaryDTO summary = courseImportService.importCourses(toStream(ndjson), results::add);
+
+        // Then
+        assertEquals(new ImportSummaryDTO(2, 1, 1), summary);
+        assertEquals(1, courseRepository.count());
+        assertEquals(ImportStatus.CREATED, results.get(0).status());
+        assertNotNull(results.get(0).id());
+        assertTrue(courseRepository.existsById(results.get(0).id()));
+        assertEquals(ImportStatus.FAILED, results.get(1).status());
+        assertEquals(List.of("Curso viola uma restrição do banco de dados"), results.get(1).errors());
+    }
+
+    private ByteArrayInputStream toStream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,176 @@
+package com.camila.crud_spring.service;
+
+import com.camila.crud_spring.config.CacheConfig;
+import com.camila.crud_spring.dto.CourseDTO;
+import com.camila.crud_spring.dto.CourseWithLessonsResponseDTO;
+import com.camila.crud_spring.dto.mapper.CourseMapper;
+import com.camila.crud_spring.enums.Category;
+import com.camila.crud_spring.enums.Status;
+import com.camila.crud_spring.model.Course;
+import com.camila.crud_spring.repository.CourseRepository;
+import com.camila.crud_spring.repository.FieldProjectionRepository;
+import com.camila.crud_spring.repository.LessonRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@SpringJUnitConfig({CacheConfig.class, CourseService.class, CourseResponseCache.class})
+@TestPropertySource(properties = "app.response-cache.spec=maximumSize=100,expireAfterWrite=1m")
+@DisplayName("Course Response Cache Tests")
+class CourseResponseCacheTest {
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private CourseResponseCache courseResponseCache;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @MockitoBean
+    private CourseRepository courseRepository;
+
+    @MockitoBean
+    private LessonRepository lessonRepository;
+
+    @MockitoBean
+    private ApproximateCountService approximateCountService;
+
+    @MockitoBean
+    private CourseMapper courseMapper;
+
+    @MockitoBean
+    private LessonSearchIndex lessonSearchIndex;
+
+    @MockitoBean
+    private OptimisticUpdateExecutor optimisticUpdateExecutor;
+
+    @MockitoBean
+    private FieldProjectionRepository fieldProjectionRepository;
+
+    private Course course;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+
+        course = new Course();
+        course.setId(1L);
+        course.setName("Angular Basics");
+        course.setCategory(Category.FRONTEND);
+        course.setStatus(Status.ACTIVE);
+
+        CourseWithLessonsResponseDTO response = new CourseWithLessonsResponseDTO(
+                new CourseDTO(1L, "Angular Basics", Category.FRONTEND), List.of());
+
+        when(courseRepository.findByIdAndStatusWithLessons(1L, Status.ACTIVE)).thenReturn(Optional.of(course));
+        when(courseRepository.findByIdWithLessons(1L)).thenReturn(Optional.of(course));
+        when(courseMapper.toCourseWithLessonsResponseDTO(any(Course.class))).thenReturn(response);
+    }
+
+    @Test
+    @DisplayName("Should serve repeated reads from the cache")
+    void shouldServeRepeatedReadsFromCache() {
+        // When
+        CourseWithLessonsResponseDTO first = courseService.getActiveCourseWithLessons(1L);
+        CourseWithLessonsResponseDTO second = courseService.getActiveCourseWithLessons(1L);
+
+        // Then
+        assertSame(first, second);
+        verify(courseRepository, times(1)).findByIdAndStatusWithLessons(1L, Status.ACTIVE);
+        verify(courseMapper, times(1)).toCourseWithLessonsResponseDTO(any(Course.class));
+    }
+
+    @Test
+    @DisplayName("Should replace the cached body on reload")
+    void shouldReplaceCachedBodyOnReload() {
+        // Given
+        CourseWithLessonsResponseDTO stale = courseService.getActiveCourseWithLessons(1L);
+        CourseWithLessonsResponseDTO current = new CourseWithLessonsResponseDTO(
+                new CourseDTO(1L, "Angular Basics", Category.FRONTEND), List.of(), 1L);
+        when(courseMapper.toCourseWithLessonsResponseDTO(any(Course.class))).thenReturn(current);
+
+        // When
+        courseService.reloadActiveCourseWithLessons(1L);
+
+        // Then
+        assertNotSame(stale, courseService.getActiveCourseWithLessons(1L));
+        assertSame(current, courseService.getActiveCourseWithLessons(1L));
+        verify(courseRepository, times(2)).findByIdAndStatusWithLessons(1L, Status.ACTIVE);
+    }
+
+    @Test
+    @DisplayName("Should cache active and all scopes separately")
+    void shouldCacheScopesSeparately() {
+        // When
+        courseService.getActiveCourseWithLessons(1L);
+        courseService.getCourseWithLessons(1L);
+        courseService.getCourseWithLessons(1L);
+
+        // Then
+        verify(courseRepository, times(1)).findByIdAndStatusWithLessons(1L, Status.ACTIVE);
+        verify(courseRepository, times(1)).findByIdWithLessons(1L);
+    }
+
+    @Test
+    @DisplayName("Should evict both scopes when the course is soft deleted")
+    void shouldEvictBothScopesOnSoftDelete() {
+        // Given
+        when(courseRepository.updateStatusByIdIn(List.of(1L), Status.INACTIVE)).thenReturn(1);
+        courseService.getActiveCourseWithLessons(1L);
+        courseService.getCourseWithLessons(1L);
+
+        // When
+        courseService.softDeleteCourse(1L);
+        courseService.getActiveCourseWithLessons(1L);
+        courseService.getCourseWithLessons(1L);
+
+        // Then
+        verify(courseRepository, times(2)).findByIdAndStatusWithLessons(1L, Status.ACTIVE);
+        verify(courseRepository, times(2)).findByIdWithLessons(1L);
+    }
+
+    @Test
+    @DisplayName("Should evict only the changed course on lesson writes")
+    void shouldEvictOnlyChangedCourse() {
+        // Given
+        courseService.getActiveCourseWithLessons(1L);
+
+        // When
+        courseResponseCache.evict(2L);
+        courseService.getActiveCourseWithLessons(1L);
+
+        // Then
+        verify(courseRepository, times(1)).findByIdAndStatusWithLessons(1L, Status.ACTIVE);
+    }
+
+    @Test
+    @DisplayName("Should evict every cached course on a bulk status update")
+    void shouldEvictEverythingOnBulkStatusUpdate() {
+        // Given
+        courseService.getActiveCourseWithLessons(1L);
+        courseService.getCourseWithLessons(1L);
+
+        // When
+        courseService.updateStatus(null, Category.FRONTEND, Status.INACTIVE);
+        courseService.getActiveCourseWithLessons(1L);
+        courseService.getCourseWithLessons(1L);
+
+        // Then
+        verify(courseRepository, times(2)).findByIdAndStatusWithLessons(1L, Status.ACTIVE);
+        verify(courseRepository, times(2)).findByIdWithLessons(1L);
+    }
+}
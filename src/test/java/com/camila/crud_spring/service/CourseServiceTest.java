@@ -1,30 +1,51 @@
 package com.camila.crud_spring.service;
 
+import com.camila.crud_spring.dto.BatchResultDTO;
+import com.camila.crud_spring.dto.CourseDTO;
+import com.camila.crud_spring.dto.CourseWithLessonsResponseDTO;
+import com.camila.crud_spring.dto.LessonDTO;
+import com.camila.crud_spring.dto.mapper.CourseMapper;
+import com.camila.crud_spring.dto.mapper.FieldsMapper.CourseWithLessonsFields;
 import com.camila.crud_spring.enums.Category;
+import com.camila.crud_spring.enums.CountMode;
 import com.camila.crud_spring.enums.Status;
 import com.camila.crud_spring.exception.RecordNotFoundException;
 import com.camila.crud_spring.model.Course;
 import com.camila.crud_spring.model.Lesson;
 import com.camila.crud_spring.repository.CourseRepository;
+import com.camila.crud_spring.repository.FieldProjectionRepository;
+import com.camila.crud_spring.repository.LessonRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.IntFunction;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,6 +55,24 @@ class CourseServiceTest {
     @Mock
     private CourseRepository courseRepository;
 
+    @Mock
+    private LessonRepository lessonRepository;
+
+    @Mock
+    private ApproximateCountService approximateCountService;
+
+    @Mock
+    private CourseMapper courseMapper;
+
+    @Mock
+    private LessonSearchIndex lessonSearchIndex;
+
+    @Mock
+    private OptimisticUpdateExecutor optimisticUpdateExecutor;
+
+    @Mock
+    private FieldProjectionRepository fieldProjectionRepository;
+
     @InjectMocks
     private CourseService courseService;
 
@@ -100,28 +139,68 @@ class CourseServiceTest {
     @DisplayName("Should find active course by ID successfully")
     void shouldFindActiveCourseById() {
         // Given
-        when(courseRepository.findByIdAndStatus(1L, Status.ACTIVE)).thenReturn(Optional.of(course));
+        CourseDTO courseDTO = new CourseDTO(1L, "Angular Basics", Category.FRONTEND);
+        when(courseRepository.findCourseDTOByIdAndStatus(1L, Status.ACTIVE)).thenReturn(Optional.of(courseDTO));
 
         // When
-        Course result = courseService.findActiveById(1L);
+        CourseDTO result = courseService.findActiveById(1L);
 
         // Then
         assertNotNull(result);
-        assertEquals(1L, result.getId());
-        assertEquals("Angular Basics", result.getName());
-        assertEquals(Status.ACTIVE, result.getStatus());
-        verify(courseRepository, times(1)).findByIdAndStatus(1L, Status.ACTIVE);
+        assertEquals(1L, result.id());
+        assertEquals("Angular Basics", result.name());
+        verify(courseRepository, times(1)).findCourseDTOByIdAndStatus(1L, Status.ACTIVE);
+        verify(courseRepository, never()).findByIdAndStatus(anyLong(), any(Status.class));
     }
 
     @Test
     @DisplayName("Should throw exception when active course not found")
     void shouldThrowExceptionWhenActiveCourseNotFound() {
         // Given
-        when(courseRepository.findByIdAndStatus(anyLong(), any(Status.class))).thenReturn(Optional.empty());
+        when(courseRepository.findCourseDTOByIdAndStatus(anyLong(), any(Status.class))).thenReturn(Optional.empty());
 
         // When & Then
         assertThrows(RecordNotFoundException.class, () -> courseService.findActiveById(999L));
-        verify(courseRepository, times(1)).findByIdAndStatus(999L, Status.ACTIVE);
+        verify(courseRepository, times(1)).findCourseDTOByIdAndStatus(999L, Status.ACTIVE);
+    }
+
+    @Test
+    @DisplayName("Should find active courses by ids in request order and report the missing ones")
+    void shouldFindActiveCoursesByIdsInRequestOrder() {
+        // Given
+        List<Long> ids = List.of(3L, 1L, 2L, 3L);
+        when(courseRepository.findCourseDTOsByIdInAndStatus(ids, Status.ACTIVE)).thenReturn(List.of(
+                new CourseDTO(1L, "Angular Basics", Category.FRONTEND),
+                new CourseDTO(3L, "Spring Boot", Category.BACKEND)));
+
+        // When
+        BatchResultDTO<CourseDTO> result = courseService.findActiveByIds(ids);
+
+        // Then
+        assertEquals(List.of(3L, 1L), result.found().stream().map(CourseDTO::id).toList());
+        assertEquals(List.of(2L), result.missing());
+        verify(courseRepository, times(1)).findCourseDTOsByIdInAndStatus(ids, Status.ACTIVE);
+        verify(courseRepository, never()).findCourseDTOByIdAndStatus(anyLong(), any(Status.class));
+    }
+
+    @Test
+    @DisplayName("Should find active courses with lessons by ids in one query")
+    void shouldFindActiveCoursesWithLessonsByIds() {
+        // Given
+        course.getLessons().add(lesson);
+        CourseWithLessonsResponseDTO courseWithLessons = new CourseWithLessonsResponseDTO(
+                new CourseDTO(1L, "Angular Basics", Category.FRONTEND),
+                List.of(new LessonDTO(1L, lesson.getName(), lesson.getYoutubeUrl())));
+        when(courseRepository.findAllWithLessonsByIdInAndStatus(List.of(999L, 1L), Status.ACTIVE)).thenReturn(List.of(course));
+        when(courseMapper.toCourseWithLessonsResponseDTO(course)).thenReturn(courseWithLessons);
+
+        // When
+        BatchResultDTO<CourseWithLessonsResponseDTO> result = courseService.findActiveByIdsWithLessons(List.of(999L, 1L));
+
+        // Then
+        assertEquals(List.of(courseWithLessons), result.found());
+        assertEquals(List.of(999L), result.missing());
+        verify(courseRepository, never()).findByIdAndStatusWithLessons(anyLong(), any(Status.class));
     }
 
     @Test
@@ -145,97 +224,296 @@ class CourseServiceTest {
     @DisplayName("Should update course successfully")
     void shouldUpdateCourse() {
         // Given
+        runUpdatesOnce();
         Course updatedData = new Course();
         updatedData.setName("Angular Advanced");
         updatedData.setCategory(Category.FRONTEND);
         updatedData.setStatus(Status.ACTIVE);
         updatedData.setLessons(new ArrayList<>());
 
+        when(courseRepository.findByIdIncrementingVersion(1L)).thenReturn(Optional.of(course));
         when(courseRepository.findByIdWithLessons(1L)).thenReturn(Optional.of(course));
         when(courseRepository.save(any(Course.class))).thenReturn(course);
 
         // When
-        Course result = courseService.updateCourse(1L, updatedData);
+        Course result = courseService.updateCourse(1L, updatedData, null);
 
         // Then
         assertNotNull(result);
+        verify(courseRepository, times(1)).findByIdIncrementingVersion(1L);
         verify(courseRepository, times(1)).findByIdWithLessons(1L);
         verify(courseRepository, times(1)).save(any(Course.class));
+        verify(lessonSearchIndex, times(1)).indexCourse(course);
+    }
+
+    @Test
+    @DisplayName("Should sync lessons by id when updating course")
+    void shouldSyncLessonsByIdWhenUpdatingCourse() {
+        // Given
+        runUpdatesOnce();
+        Lesson removedLesson = new Lesson("Components", "abcdefghijk");
+        removedLesson.setId(2L);
+        removedLesson.setCourse(course);
+        course.getLessons().add(lesson);
+        course.getLessons().add(removedLesson);
+
+        Lesson changedLesson = new Lesson("Angular Introduction", "dQw4w9WgXcQ");
+        changedLesson.setId(1L);
+        Lesson newLesson = new Lesson("Routing", "routing1234");
+
+        Course updatedData = new Course();
+        updatedData.setName("Angular Basics");
+        updatedData.setCategory(Category.FRONTEND);
+        updatedData.setLessons(new ArrayList<>(List.of(changedLesson, newLesson)));
+
+        when(courseRepository.findByIdIncrementingVersion(1L)).thenReturn(Optional.of(course));
+        when(courseRepository.findByIdWithLessons(1L)).thenReturn(Optional.of(course));
+        when(courseRepository.save(course)).thenReturn(course);
+
+        // When
+        Course result = courseService.updateCourse(1L, updatedData, null);
+
+        // Then
+        assertEquals(2, result.getLessons().size());
+        assertSame(lesson, result.getLessons().get(0));
+        assertEquals(1L, lesson.getId());
+        assertEquals("Angular Introduction", lesson.getName());
+        assertSame(newLesson, result.getLessons().get(1));
+        assertNull(newLesson.getId());
+        assertSame(course, newLesson.getCourse());
+        assertFalse(result.getLessons().contains(removedLesson));
     }
 
     @Test
     @DisplayName("Should throw exception when updating non-existent course")
     void shouldThrowExceptionWhenUpdatingNonExistentCourse() {
         // Given
+        runUpdatesOnce();
         Course updateData = new Course();
-        when(courseRepository.findByIdWithLessons(anyLong())).thenReturn(Optional.empty());
+        when(courseRepository.findByIdIncrementingVersion(anyLong())).thenReturn(Optional.empty());
 
         // When & Then
-        assertThrows(RecordNotFoundException.class, () -> courseService.updateCourse(999L, updateData));
-        verify(courseRepository, times(1)).findByIdWithLessons(999L);
+        assertThrows(RecordNotFoundException.class, () -> courseService.updateCourse(999L, updateData, null));
+        verify(courseRepository, times(1)).findByIdIncrementingVersion(999L);
+        verify(courseRepository, never()).findByIdWithLessons(anyLong());
         verify(courseRepository, never()).save(any(Course.class));
     }
 
+    @Test
+    @DisplayName("Should find the version of an active course")
+    void shouldFindActiveCourseVersion() {
+        // Given
+        when(courseRepository.findVersionByIdAndStatus(1L, Status.ACTIVE)).thenReturn(Optional.of(3L));
+
+        // When & Then
+        assertEquals(3L, courseService.findActiveCourseVersion(1L));
+        verify(courseRepository, never()).findByIdAndStatusWithLessons(anyLong(), any(Status.class));
+    }
+
+    @Test
+    @DisplayName("Should throw exception when the course version is not found")
+    void shouldThrowExceptionWhenCourseVersionNotFound() {
+        // Given
+        when(courseRepository.findVersionById(anyLong())).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(RecordNotFoundException.class, () -> courseService.findCourseVersion(999L));
+    }
+
     @Test
     @DisplayName("Should soft delete course")
     void shouldSoftDeleteCourse() {
         // Given
-        when(courseRepository.findById(1L)).thenReturn(Optional.of(course));
-        when(courseRepository.save(any(Course.class))).thenReturn(course);
+        when(courseRepository.updateStatusByIdIn(List.of(1L), Status.INACTIVE)).thenReturn(1);
 
         // When
         courseService.softDeleteCourse(1L);
 
         // Then
-        assertEquals(Status.INACTIVE, course.getStatus());
-        verify(courseRepository, times(1)).findById(1L);
-        verify(courseRepository, times(1)).save(course);
+        verify(courseRepository, times(1)).updateStatusByIdIn(List.of(1L), Status.INACTIVE);
+        verify(courseRepository, never()).findById(anyLong());
+        verify(courseRepository, never()).save(any(Course.class));
+    }
+
+    @Test
+    @DisplayName("Should throw exception when soft deleting non-existent course")
+    void shouldThrowExceptionWhenSoftDeletingNonExistentCourse() {
+        // Given
+        when(courseRepository.updateStatusByIdIn(List.of(999L), Status.INACTIVE)).thenReturn(0);
+
+        // When & Then
+        assertThrows(RecordNotFoundException.class, () -> courseService.softDeleteCourse(999L));
+    }
+
+    @Test
+    @DisplayName("Should update status of a whole category")
+    void shouldUpdateStatusByCategory() {
+        // Given
+        when(courseRepository.updateStatusByCategory(Category.FRONTEND, Status.INACTIVE)).thenReturn(12);
+
+        // When
+        int updated = courseService.updateStatus(null, Category.FRONTEND, Status.INACTIVE);
+
+        // Then
+        assertEquals(12, updated);
+        verify(courseRepository, never()).updateStatusByIdIn(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should update status of the given ids")
+    void shouldUpdateStatusByIds() {
+        // Given
+        when(courseRepository.updateStatusByIdIn(List.of(1L, 2L), Status.ACTIVE)).thenReturn(2);
+
+        // When
+        int updated = courseService.updateStatus(List.of(1L, 2L), null, Status.ACTIVE);
+
+        // Then
+        assertEquals(2, updated);
+        verify(courseRepository, never()).updateStatusByCategory(any(), any());
     }
 
     @Test
     @DisplayName("Should hard delete course")
     void shouldHardDeleteCourse() {
         // Given
-        when(courseRepository.findById(1L)).thenReturn(Optional.of(course));
-        doNothing().when(courseRepository).delete(course);
+        when(courseRepository.hardDeleteByIdIn(List.of(1L))).thenReturn(1);
 
         // When
         courseService.hardDeleteCourse(1L);
 
         // Then
-        verify(courseRepository, times(1)).findById(1L);
-        verify(courseRepository, times(1)).delete(course);
+        verify(lessonRepository, times(1)).deleteByCourseIdIn(List.of(1L));
+        verify(courseRepository, times(1)).hardDeleteByIdIn(List.of(1L));
+        verify(courseRepository, never()).findById(anyLong());
+        verify(lessonSearchIndex, times(1)).removeCourses(List.of(1L));
     }
 
     @Test
     @DisplayName("Should throw exception when hard deleting non-existent course")
     void shouldThrowExceptionWhenHardDeletingNonExistentCourse() {
         // Given
-        when(courseRepository.findById(anyLong())).thenReturn(Optional.empty());
+        when(courseRepository.hardDeleteByIdIn(List.of(999L))).thenReturn(0);
 
         // When & Then
         assertThrows(RecordNotFoundException.class, () -> courseService.hardDeleteCourse(999L));
-        verify(courseRepository, times(1)).findById(999L);
         verify(courseRepository, never()).delete(any(Course.class));
+        verify(lessonSearchIndex, never()).removeCourses(any());
+    }
+
+    @Test
+    @DisplayName("Should purge many courses and their lessons at once")
+    void shouldHardDeleteManyCourses() {
+        // Given
+        when(courseRepository.hardDeleteByIdIn(List.of(1L, 2L, 3L))).thenReturn(2);
+
+        // When
+        int deleted = courseService.hardDeleteCourses(List.of(1L, 2L, 3L));
+
+        // Then
+        assertEquals(2, deleted);
+        verify(lessonRepository, times(1)).deleteByCourseIdIn(List.of(1L, 2L, 3L));
+    }
+
+    @Test
+    @DisplayName("Should search courses through a specification")
+    void shouldSearchCourses() {
+        // Given
+        CourseDTO courseDTO = new CourseDTO(1L, "Angular Basics", Category.FRONTEND);
+        when(courseRepository.findAll(ArgumentMatchers.<Specification<Course>>any(), eq(pageable)))
+                .thenReturn(new PageImpl<>(List.of(course), pageable, 1));
+        when(courseMapper.toCourseDTO(course)).thenReturn(courseDTO);
+
+        // When
+        Page<CourseDTO> result = courseService.searchCourses(Status.ACTIVE, Category.FRONTEND, "Ang", pageable);
+
+        // Then
+        assertEquals(List.of(courseDTO), result.getContent());
+        verify(courseRepository, times(1)).findAll(ArgumentMatchers.<Specification<Course>>any(), eq(pageable));
     }
 
     @Test
     @DisplayName("Should list active courses with pagination")
     void shouldListActiveCoursesWithPagination() {
         // Given
-        List<Course> courses = List.of(course);
-        Page<Course> coursePage = new PageImpl<>(courses, pageable, 1);
+        List<CourseDTO> courseDTOs = List.of(new CourseDTO(1L, "Angular Basics", Category.FRONTEND));
+        Page<CourseDTO> coursePage = new PageImpl<>(courseDTOs, pageable, 1);
 
-        when(courseRepository.findByStatus(Status.ACTIVE, pageable)).thenReturn(coursePage);
+        when(courseRepository.findCourseDTOsByStatus(Status.ACTIVE, pageable)).thenReturn(coursePage);
 
         // When
-        Page<Course> result = courseService.listActiveCourses(pageable);
+        Page<CourseDTO> result = courseService.listActiveCourses(pageable);
 
         // Then
         assertNotNull(result);
         assertEquals(1, result.getTotalElements());
-        assertEquals("Angular Basics", result.getContent().getFirst().getName());
-        verify(courseRepository, times(1)).findByStatus(Status.ACTIVE, pageable);
+        assertEquals("Angular Basics", result.getContent().getFirst().name());
+        verify(courseRepository, times(1)).findCourseDTOsByStatus(Status.ACTIVE, pageable);
+    }
+
+    @Test
+    @DisplayName("Should slice active courses without counting")
+    void shouldSliceActiveCoursesWithoutCounting() {
+        // Given
+        Slice<CourseDTO> courseSlice = new SliceImpl<>(
+                List.of(new CourseDTO(1L, "Angular Basics", Category.FRONTEND)), pageable, true);
+        when(courseRepository.findCourseDTOSliceByStatus(Status.ACTIVE, pageable)).thenReturn(courseSlice);
+
+        // When
+        Slice<CourseDTO> result = courseService.sliceActiveCourses(pageable);
+        Long total = courseService.countActiveCourses(CountMode.NONE);
+
+        // Then
+        assertTrue(result.hasNext());
+        assertNull(total);
+        verify(courseRepository, never()).countByStatus(any(Status.class));
+        verifyNoInteractions(approximateCountService);
+    }
+
+    @Test
+    @DisplayName("Should use cached count when approximate total is requested")
+    void shouldUseCachedCountWhenApproximateTotalRequested() {
+        // Given
+        when(approximateCountService.countActiveCourses()).thenReturn(42L);
+
+        // When
+        Long total = courseService.countActiveCourses(CountMode.APPROXIMATE);
+
+        // Then
+        assertEquals(42L, total);
+        verify(courseRepository, never()).countByStatus(any(Status.class));
+    }
+
+    @Test
+    @DisplayName("Should run full count only when exact total is requested")
+    void shouldRunFullCountWhenExactTotalRequested() {
+        // Given
+        when(courseRepository.countByStatus(Status.ACTIVE)).thenReturn(7L);
+
+        // When
+        Long total = courseService.countActiveCourses(CountMode.EXACT);
+
+        // Then
+        assertEquals(7L, total);
+        verifyNoInteractions(approximateCountService);
+    }
+
+    @Test
+    @DisplayName("Should scroll active courses by keyset")
+    void shouldScrollActiveCourses() {
+        // Given
+        ScrollPosition position = ScrollPosition.keyset();
+        Sort sort = Sort.by("name").and(Sort.by("id"));
+        Window<Course> window = Window.from(List.of(course), index -> position);
+
+        when(courseRepository.findByStatus(Status.ACTIVE, position, sort, Limit.of(10))).thenReturn(window);
+
+        // When
+        Window<Course> result = courseService.scrollActiveCourses(position, sort, 10);
+
+        // Then
+        assertEquals(1, result.size());
+        verify(courseRepository, times(1)).findByStatus(Status.ACTIVE, position, sort, Limit.of(10));
     }
 
     @Test
@@ -262,18 +540,18 @@ class CourseServiceTest {
     @DisplayName("Should list all courses including inactive")
     void shouldListAllCourses() {
         // Given
-        List<Course> courses = List.of(course);
-        Page<Course> coursePage = new PageImpl<>(courses, pageable, 1);
+        List<CourseDTO> courseDTOs = List.of(new CourseDTO(1L, "Angular Basics", Category.FRONTEND));
+        Page<CourseDTO> coursePage = new PageImpl<>(courseDTOs, pageable, 1);
 
-        when(courseRepository.findAll(pageable)).thenReturn(coursePage);
+        when(courseRepository.findAllCourseDTOs(pageable)).thenReturn(coursePage);
 
         // When
-        Page<Course> result = courseService.listAllCourses(pageable);
+        Page<CourseDTO> result = courseService.listAllCourses(pageable);
 
         // Then
         assertNotNull(result);
         assertEquals(1, result.getTotalElements());
-        verify(courseRepository, times(1)).findAll(pageable);
+        verify(courseRepository, times(1)).findAllCourseDTOs(pageable);
     }
 
     @Test
@@ -333,4 +611,49 @@ class CourseServiceTest {
         // Then
         assertFalse(result);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should attach the selected lesson fields to each course of the sparse page")
+    void shouldAttachLessonFieldsToSparseCoursePage() {
+        // Given
+        Map<String, Object> angular = new HashMap<>(Map.of("_id", 1L, "name", "Angular Basics"));
+        Map<String, Object> spring = new HashMap<>(Map.of("_id", 2L, "name", "Spring Boot"));
+        Map<String, Object> components = new HashMap<>(Map.of("name", "Components", "courseId", 1L));
+        when(fieldProjectionRepository.findAll(eq(Course.class), any(), any(), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(angular, spring), pageable, 2));
+        when(fieldProjectionRepository.findAll(eq(Lesson.class), any(), any(), any(Sort.class)))
+                .thenReturn(List.of(components));
+
+        // When
+        Page<Map<String, Object>> result = courseService.listActiveCoursesWithLessons(
+                pageable, new CourseWithLessonsFields(Map.of("name", "name"), Map.of("name", "name")));
+
+        // Then
+        assertEquals(Map.of("course", Map.of("name", "Angular Basics"), "lessons", List.of(Map.of("name", "Components"))),
+                result.getContent().get(0));
+        assertEquals(Map.of("course", Map.of("name", "Spring Boot"), "lessons", List.of()),
+                result.getContent().get(1));
+    }
+
+    @Test
+    @DisplayName("Should not query lessons when no lesson field is selected")
+    void shouldNotQueryLessonsWithoutLessonFields() {
+        // Given
+        when(fieldProjectionRepository.findAll(eq(Course.class), any(), any(), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(new HashMap<>(Map.of("_id", 1L))), pageable, 1));
+
+        // When
+        Page<Map<String, Object>> result = courseService.listActiveCoursesWithLessons(
+                pageable, new CourseWithLessonsFields(Map.of("_id", "id"), Map.of()));
+
+        // Then
+        assertEquals(Map.of("course", Map.of("_id", 1L)), result.getContent().get(0));
+        verify(fieldProjectionRepository, never()).findAll(eq(Lesson.class), any(), any(), any(Sort.class));
+    }
+
+    // Runs the update as a single first attempt, the way it goes when no other write races it.
+    private void runUpdatesOnce() {
+        when(optimisticUpdateExecutor.execute(any())).thenAnswer(invocation ->
+                invocation.<IntFunction<?>>getArgument(0).apply(1));
+    }
+}
@@ -0,0 +1,264 @@
+package com.camila.crud_spring.service;
+
+import com.camila.crud_spring.dto.mapper.CourseMapper;
+import com.camila.crud_spring.enums.Category;
+import com.camila.crud_spring.enums.Status;
+import com.camila.crud_spring.exception.PreconditionFailedException;
+import com.camila.crud_spring.model.Course;
+import com.camila.crud_spring.model.Lesson;
+import com.camila.crud_spring.repository.CourseRepository;
+import com.camila.crud_spring.repository.FieldProjectionRepository;
+import com.camila.crud_spring.repository.LessonRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * Runs the services against the database, each call in its own committed transaction, and checks
+ * that every write that changes a course's representation moves its version.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({CourseService.class, LessonService.class, CourseMapper.class, OptimisticUpdateExecutor.class, FieldProjectionRepository.class})
+@DisplayName("Entity Version Tests")
+class EntityVersionTest {
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private LessonService lessonService;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private LessonRepository lessonRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoBean
+    private ApproximateCountService approximateCountService;
+
+    @MockitoBean
+    private CourseResponseCache courseResponseCache;
+
+    @MockitoBean
+    private LessonSearchIndex lessonSearchIndex;
+
+    private Course course;
+    private Long lessonId;
+
+    @BeforeEach
+    void setUp() {
+        Course newCourse = new Course();
+        newCourse.setName("Angular Basics");
+        newCourse.setCategory(Category.FRONTEND);
+        Lesson lesson = new Lesson("Introduction to Angular", "video123456");
+        lesson.setCourse(newCourse);
+        newCourse.getLessons().add(lesson);
+
+        course = courseService.createCourse(newCourse);
+        lessonId = course.getLessons().get(0).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        lessonRepository.deleteAllInBatch();
+        courseRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("Should start new courses and lessons at version 0")
+    void shouldStartAtVersionZero() {
+        // Then
+        assertEquals(0L, courseService.findActiveCourseVersion(course.getId()));
+        assertEquals(0L, lessonService.findVersionById(lessonId));
+    }
+
+    @Test
+    @DisplayName("Should bump the course version when one of its lessons is updated")
+    void shouldBumpCourseVersionOnLessonUpdate() {
+        // When
+        lessonService.updateLesson(lessonId, new Lesson("Angular Introduction", "video654321"), null);
+
+        // Then
+        assertEquals(1L, lessonService.findVersionById(lessonId));
+        assertTrue(courseService.findCourseVersion(course.getId()) > 0);
+    }
+
+    @Test
+    @DisplayName("Should bump the course version when a lesson is added or removed")
+    void shouldBumpCourseVersionOnLessonCreateAndDelete() {
+        // When
+        Lesson created = lessonService.createLesson(new Lesson("Components", "video000001"), course.getId());
+        Long afterCreate = courseService.findCourseVersion(course.getId());
+        lessonService.deleteLesson(created.getId());
+        Long afterDelete = courseService.findCourseVersion(course.getId());
+
+        // Then
+        assertTrue(afterCreate > 0);
+        assertTrue(afterDelete > afterCreate);
+    }
+
+    @Test
+    @DisplayName("Should bump the course version when a PUT only changes a lesson")
+    void shouldBumpCourseVersionOnCourseUpdateOfLessonOnly() {
+        // Given
+        Course courseData = new Course();
+        courseData.setName(course.getName());
+        courseData.setCategory(course.getCategory());
+        Lesson lessonData = new Lesson("Angular Introduction", "video123456");
+        lessonData.setId(lessonId);
+        courseData.setLessons(new ArrayList<>(List.of(lessonData)));
+
+        // When
+        courseService.updateCourse(course.getId(), courseData, null);
+
+        // Then
+        assertTrue(courseService.findCourseVersion(course.getId()) > 0);
+    }
+
+    @Test
+    @DisplayName("Should bump the course version on bulk status updates")
+    void shouldBumpCourseVersionOnBulkStatusUpdate() {
+        // When
+        courseService.updateStatus(List.of(course.getId()), null, Status.INACTIVE);
+        courseService.updateStatus(null, Category.FRONTEND, Status.ACTIVE);
+
+        // Then
+        assertEquals(2L, courseService.findActiveCourseVersion(course.getId()));
+    }
+
+    @Test
+    @DisplayName("Should reject a course update sent with a stale version")
+    void shouldRejectCourseUpdateWithStaleVersion() {
+        // Given
+        Course courseData = new Course();
+        courseData.setName("Angular Advanced");
+        courseData.setCategory(Category.FRONTEND);
+        courseService.updateCourse(course.getId(), courseData, 0L);
+
+        // When & Then
+        assertThrows(PreconditionFailedException.class, () -> courseService.updateCourse(course.getId(), courseData, 0L));
+    }
+
+    @Test
+    @DisplayName("Should return the committed version from a conditional course update")
+    void shouldReturnCommittedVersionFromCourseUpdate() {
+        // Given
+        Course courseData = new Course();
+        courseData.setName("Angular Advanced");
+        courseData.setCategory(Category.FRONTEND);
+
+        // When
+        Course updated = courseService.updateCourse(course.getId(), courseData, 0L);
+
+        // Then
+        assertEquals(courseService.findCourseVersion(course.getId()), updated.getVersion());
+        assertEquals("Angular Advanced", courseRepository.findById(course.getId()).orElseThrow().getName());
+    }
+
+    @Test
+    @DisplayName("Should merge a concurrent lesson change to another field and retry")
+    void shouldMergeConcurrentLessonChangeToAnotherField() {
+        // Given
+        commitConcurrentlyOnFirstAttempt("video999999");
+
+        // When
+        Lesson updated = lessonService.updateLesson(lessonId, new Lesson("Angular Introduction", "video123456"), 0L);
+
+        // Then
+        assertEquals("Angular Introduction", updated.getName());
+        assertEquals("video999999", updated.getYoutubeUrl());
+        assertEquals(2L, lessonService.findVersionById(lessonId));
+    }
+
+    @Test
+    @DisplayName("Should reject a lesson update when a concurrent change hit the same field")
+    void shouldRejectConcurrentLessonChangeToSameField() {
+        // Given
+        commitConcurrentlyOnFirstAttempt("video999999");
+
+        // When & Then
+        assertThrows(PreconditionFailedException.class,
+                () -> lessonService.updateLesson(lessonId, new Lesson("Introduction to Angular", "video000000"), 0L));
+        assertEquals("video999999", lessonRepository.findById(lessonId).orElseThrow().getYoutubeUrl());
+    }
+
+    @Test
+    @DisplayName("Should not conflict when lessons are added to the same course concurrently")
+    void shouldNotConflictOnConcurrentLessonCreates() {
+        // Given - another lesson is added while this create is still open
+        doAnswer(commitOnce(() -> lessonService.createLesson(new Lesson("Services", "video000002"), course.getId())))
+                .when(lessonSearchIndex).index(any(Lesson.class));
+
+        // When
+        lessonService.createLesson(new Lesson("Components", "video000001"), course.getId());
+
+        // Then
+        assertEquals(3, lessonRepository.countByCourseId(course.getId()));
+        assertEquals(2L, courseService.findCourseVersion(course.getId()));
+    }
+
+    @Test
+    @DisplayName("Should not conflict when lessons of the same course are deleted concurrently")
+    void shouldNotConflictOnConcurrentLessonDeletes() {
+        // Given - another lesson is deleted while this delete is still open
+        Long otherLessonId = lessonService.createLesson(new Lesson("Components", "video000001"), course.getId()).getId();
+        doAnswer(commitOnce(() -> lessonService.deleteLesson(otherLessonId)))
+                .when(lessonSearchIndex).remove(anyLong());
+
+        // When
+        lessonService.deleteLesson(lessonId);
+
+        // Then
+        assertEquals(0, lessonRepository.countByCourseId(course.getId()));
+        assertEquals(3L, courseService.findCourseVersion(course.getId()));
+    }
+
+    // The first update attempt indexes its lesson before it commits; a competing transaction
+    // changes the lesson's URL right there, so that attempt loses the version check.
+    private void commitConcurrentlyOnFirstAttempt(String youtubeUrl) {
+        doAnswer(commitOnce(() -> {
+            Lesson lesson = lessonRepository.findById(lessonId).orElseThrow();
+            lesson.setYoutubeUrl(youtubeUrl);
+        })).when(lessonSearchIndex).index(any(Lesson.class));
+    }
+
+    // Commits the competing write in its own transaction the first time the stubbed call is
+    // reached, while the service call that reached it is still open.
+    private Answer<Void> commitOnce(Runnable write) {
+        TransactionTemplate competing = new TransactionTemplate(transactionManager);
+        competing.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        AtomicBoolean done = new AtomicBoolean();
+
+        return invocation -> {
+            if (done.compareAndSet(false, true)) {
+                competing.executeWithoutResult(status -> write.run());
+            }
+            return null;
+        };
+    }
+}
@@ -0,0 +1,172 @@
+package com.camila.crud_spring.service;
+
+import com.camila.crud_spring.model.Course;
+import com.camila.crud_spring.model.Lesson;
+import com.camila.crud_spring.repository.LessonRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Lesson Search Index Tests")
+class LessonSearchIndexTest {
+
+    private LessonRepository lessonRepository;
+    private LessonSearchIndex lessonSearchIndex;
+    private Course course;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        lessonRepository = mock(LessonRepository.class);
+        lessonSearchIndex = new LessonSearchIndex(lessonRepository);
+
+        course = new Course();
+        course.setId(1L);
+        course.setName("Angular Basics");
+        course.getLessons().add(lesson(1L, "Introduction to Angular"));
+        course.getLessons().add(lesson(2L, "Angularjs Migration"));
+        course.getLessons().add(lesson(3L, "Angular Components and Services"));
+        course.getLessons().add(lesson(4L, "Spring Boot Setup"));
+        lessonSearchIndex.indexCourse(course);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        lessonSearchIndex.close();
+    }
+
+    @Test
+    @DisplayName("Should rank whole words above prefixes of longer words")
+    void shouldRankWholeWordsFirst() {
+        // When
+        Page<Long> result = lessonSearchIndex.search("ANGULAR", PageRequest.of(0, 10));
+
+        // Then
+        assertEquals(3, result.getTotalElements());
+        assertEquals(2L, result.getContent().getLast());
+        assertTrue(result.getContent().containsAll(List.of(1L, 3L)));
+    }
+
+    @Test
+    @DisplayName("Should require every word of the query and match word prefixes")
+    void shouldMatchAllWordsAndPrefixes() {
+        assertEquals(List.of(3L), lessonSearchIndex.search("angular serv", PageRequest.of(0, 10)).getContent());
+        assertEquals(List.of(4L), lessonSearchIndex.search("boot", PageRequest.of(0, 10)).getContent());
+        assertTrue(lessonSearchIndex.search("kotlin", PageRequest.of(0, 10)).isEmpty());
+        assertTrue(lessonSearchIndex.search("  ", PageRequest.of(0, 10)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should page through ranked hits")
+    void shouldPageThroughHits() {
+        // When
+        Page<Long> first = lessonSearchIndex.search("angular", PageRequest.of(0, 2));
+        Page<Long> second = lessonSearchIndex.search("angular", PageRequest.of(1, 2));
+
+        // Then
+        assertEquals(2, first.getNumberOfElements());
+        assertEquals(List.of(2L), second.getContent());
+        assertEquals(3, second.getTotalElements());
+    }
+
+    @Test
+    @DisplayName("Should replace the lessons of a re-indexed course")
+    void shouldReplaceLessonsOfCourse() {
+        // Given
+        course.getLessons().removeIf(lesson -> lesson.getId() == 1L);
+        course.getLessons().getFirst().setName("Legacy Migration");
+
+        // When
+        lessonSearchIndex.indexCourse(course);
+
+        // Then
+        assertEquals(List.of(3L), lessonSearchIndex.search("angular", PageRequest.of(0, 10)).getContent());
+        assertEquals(List.of(2L), lessonSearchIndex.search("legacy", PageRequest.of(0, 10)).getContent());
+    }
+
+    @Test
+    @DisplayName("Should update and remove single lessons")
+    void shouldUpdateAndRemoveLessons() {
+        // Given
+        Lesson renamed = lesson(4L, "Spring Security");
+
+        // When
+        lessonSearchIndex.index(renamed);
+        lessonSearchIndex.remove(1L);
+
+        // Then
+        assertEquals(List.of(4L), lessonSearchIndex.search("spring", PageRequest.of(0, 10)).getContent());
+        assertTrue(lessonSearchIndex.search("boot", PageRequest.of(0, 10)).isEmpty());
+        assertFalse(lessonSearchIndex.search("angular", PageRequest.of(0, 10)).getContent().contains(1L));
+    }
+
+    @Test
+    @DisplayName("Should drop the lessons of deleted courses")
+    void shouldRemoveCourses() {
+        // When
+        lessonSearchIndex.removeCourses(List.of(1L));
+
+        // Then
+        assertTrue(lessonSearchIndex.search("angular", PageRequest.of(0, 10)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should apply changes only after the surrounding transaction commits")
+    void shouldWaitForCommit() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            lessonSearchIndex.remove(1L);
+            assertEquals(3, lessonSearchIndex.search("angular", PageRequest.of(0, 10)).getTotalElements());
+
+            // When
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Then
+        assertEquals(2, lessonSearchIndex.search("angular", PageRequest.of(0, 10)).getTotalElements());
+    }
+
+    @Test
+    @DisplayName("Should rebuild the index from the database")
+    void shouldRebuildFromDatabase() {
+        // Given
+        Course other = new Course();
+        other.setId(2L);
+        Lesson docker = lesson(10L, "Docker Essentials");
+        docker.setCourse(other);
+        when(lessonRepository.findAllBy(any(ScrollPosition.class), any(Sort.class), any(Limit.class)))
+                .thenReturn(Window.from(List.of(docker), ScrollPosition::offset, false));
+
+        // When
+        lessonSearchIndex.rebuild();
+
+        // Then
+        assertEquals(List.of(10L), lessonSearchIndex.search("docker", PageRequest.of(0, 10)).getContent());
+        assertTrue(lessonSearchIndex.search("angular", PageRequest.of(0, 10)).isEmpty());
+    }
+
+    private Lesson lesson(Long id, String name) {
+        Lesson lesson = new Lesson(name, "abcdefghijk");
+        lesson.setId(id);
+        lesson.setCourse(course);
+        return lesson;
+    }
+}
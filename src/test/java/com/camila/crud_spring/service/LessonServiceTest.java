@@ -1,5 +1,7 @@
 package com.camila.crud_spring.service;
 
+import com.camila.crud_spring.dto.BatchResultDTO;
+import com.camila.crud_spring.dto.LessonDTO;
 import com.camila.crud_spring.enums.Category;
 import com.camila.crud_spring.enums.Status;
 import com.camila.crud_spring.exception.RecordNotFoundException;
@@ -22,6 +24,7 @@ import org.springframework.data.domain.Pageable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.IntFunction;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -38,6 +41,18 @@ class LessonServiceTest {
     @Mock
     private CourseRepository courseRepository;
 
+    @Mock
+    private ApproximateCountService approximateCountService;
+
+    @Mock
+    private CourseResponseCache courseResponseCache;
+
+    @Mock
+    private LessonSearchIndex lessonSearchIndex;
+
+    @Mock
+    private OptimisticUpdateExecutor optimisticUpdateExecutor;
+
     @InjectMocks
     private LessonService lessonService;
 
@@ -69,7 +84,8 @@ class LessonServiceTest {
     @DisplayName("Should create lesson successfully")
     void shouldCreateLesson() {
         // Given
-        when(courseRepository.findById(1L)).thenReturn(Optional.of(course));
+        when(courseRepository.existsById(1L)).thenReturn(true);
+        when(courseRepository.getReferenceById(1L)).thenReturn(course);
         when(lessonRepository.save(any(Lesson.class))).thenReturn(lesson);
 
         // When
@@ -80,54 +96,80 @@ class LessonServiceTest {
         assertEquals("Introduction to Angular", result.getName());
         assertEquals("dQw4w9WgXcQ", result.getYoutubeUrl());
         assertEquals(course, result.getCourse());
-        verify(courseRepository, times(1)).findById(1L);
+        verify(courseRepository, times(1)).existsById(1L);
         verify(lessonRepository, times(1)).save(any(Lesson.class));
+        verify(courseRepository, times(1)).findByIdForVersionIncrement(1L);
+        verify(courseResponseCache, times(1)).evict(1L);
+        verify(lessonSearchIndex, times(1)).index(lesson);
     }
 
     @Test
     @DisplayName("Should throw exception when creating lesson for non-existent course")
     void shouldThrowExceptionWhenCreatingLessonForNonExistentCourse() {
         // Given
-        when(courseRepository.findById(anyLong())).thenReturn(Optional.empty());
+        when(courseRepository.existsById(anyLong())).thenReturn(false);
 
         // When & Then
         assertThrows(RecordNotFoundException.class, () -> lessonService.createLesson(lesson, 999L));
-        verify(courseRepository, times(1)).findById(999L);
+        verify(courseRepository, times(1)).existsById(999L);
         verify(lessonRepository, never()).save(any(Lesson.class));
+        verify(courseRepository, never()).findByIdForVersionIncrement(anyLong());
     }
 
     @Test
     @DisplayName("Should find lesson by ID successfully")
     void shouldFindLessonById() {
         // Given
-        when(lessonRepository.findById(1L)).thenReturn(Optional.of(lesson));
+        LessonDTO lessonDTO = new LessonDTO(1L, "Introduction to Angular", "dQw4w9WgXcQ");
+        when(lessonRepository.findLessonDTOById(1L)).thenReturn(Optional.of(lessonDTO));
 
         // When
-        Lesson result = lessonService.findById(1L);
+        LessonDTO result = lessonService.findById(1L);
 
         // Then
         assertNotNull(result);
-        assertEquals(1L, result.getId());
-        assertEquals("Introduction to Angular", result.getName());
-        assertEquals("dQw4w9WgXcQ", result.getYoutubeUrl());
-        verify(lessonRepository, times(1)).findById(1L);
+        assertEquals(1L, result.id());
+        assertEquals("Introduction to Angular", result.name());
+        assertEquals("dQw4w9WgXcQ", result.youtubeUrl());
+        verify(lessonRepository, times(1)).findLessonDTOById(1L);
+        verify(lessonRepository, never()).findById(anyLong());
     }
 
     @Test
     @DisplayName("Should throw exception when lesson not found")
     void shouldThrowExceptionWhenLessonNotFound() {
         // Given
-        when(lessonRepository.findById(anyLong())).thenReturn(Optional.empty());
+        when(lessonRepository.findLessonDTOById(anyLong())).thenReturn(Optional.empty());
 
         // When & Then
         assertThrows(RecordNotFoundException.class, () -> lessonService.findById(999L));
-        verify(lessonRepository, times(1)).findById(999L);
+        verify(lessonRepository, times(1)).findLessonDTOById(999L);
+    }
+
+    @Test
+    @DisplayName("Should find lessons by ids in request order and report the missing ones")
+    void shouldFindLessonsByIdsInRequestOrder() {
+        // Given
+        List<Long> ids = List.of(2L, 999L, 1L);
+        when(lessonRepository.findLessonDTOsByIdIn(ids)).thenReturn(List.of(
+                new LessonDTO(1L, "Introduction to Angular", "dQw4w9WgXcQ"),
+                new LessonDTO(2L, "Components", "abc123defgh")));
+
+        // When
+        BatchResultDTO<LessonDTO> result = lessonService.findByIds(ids);
+
+        // Then
+        assertEquals(List.of(2L, 1L), result.found().stream().map(LessonDTO::id).toList());
+        assertEquals(List.of(999L), result.missing());
+        verify(lessonRepository, times(1)).findLessonDTOsByIdIn(ids);
+        verify(lessonRepository, never()).findLessonDTOById(anyLong());
     }
 
     @Test
     @DisplayName("Should update lesson successfully")
     void shouldUpdateLesson() {
         // Given
+        runUpdatesOnce();
         Lesson updatedData = new Lesson();
         updatedData.setName("Angular Advanced Topics");
         updatedData.setYoutubeUrl("newVideo123");
@@ -136,23 +178,26 @@ class LessonServiceTest {
         when(lessonRepository.save(any(Lesson.class))).thenReturn(lesson);
 
         // When
-        Lesson result = lessonService.updateLesson(1L, updatedData);
+        Lesson result = lessonService.updateLesson(1L, updatedData, null);
 
         // Then
         assertNotNull(result);
         verify(lessonRepository, times(1)).findById(1L);
         verify(lessonRepository, times(1)).save(any(Lesson.class));
+        verify(courseRepository, times(1)).findByIdForVersionIncrement(1L);
+        verify(courseResponseCache, times(1)).evict(1L);
     }
 
     @Test
     @DisplayName("Should throw exception when updating non-existent lesson")
     void shouldThrowExceptionWhenUpdatingNonExistentLesson() {
         // Given
+        runUpdatesOnce();
         Lesson updateData = new Lesson();
         when(lessonRepository.findById(anyLong())).thenReturn(Optional.empty());
 
         // When & Then
-        assertThrows(RecordNotFoundException.class, () -> lessonService.updateLesson(999L, updateData));
+        assertThrows(RecordNotFoundException.class, () -> lessonService.updateLesson(999L, updateData, null));
         verify(lessonRepository, times(1)).findById(999L);
         verify(lessonRepository, never()).save(any(Lesson.class));
     }
@@ -170,6 +215,61 @@ class LessonServiceTest {
         // Then
         verify(lessonRepository, times(1)).findById(1L);
         verify(lessonRepository, times(1)).delete(lesson);
+        verify(courseRepository, times(1)).findByIdForVersionIncrement(1L);
+        verify(courseResponseCache, times(1)).evict(1L);
+        verify(lessonSearchIndex, times(1)).remove(1L);
+    }
+
+    @Test
+    @DisplayName("Should find lesson version by ID")
+    void shouldFindLessonVersionById() {
+        // Given
+        when(lessonRepository.findVersionById(1L)).thenReturn(Optional.of(2L));
+
+        // When & Then
+        assertEquals(2L, lessonService.findVersionById(1L));
+        verify(lessonRepository, never()).findLessonDTOById(anyLong());
+    }
+
+    @Test
+    @DisplayName("Should throw exception when the lesson version is not found")
+    void shouldThrowExceptionWhenLessonVersionNotFound() {
+        // Given
+        when(lessonRepository.findVersionById(anyLong())).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(RecordNotFoundException.class, () -> lessonService.findVersionById(999L));
+    }
+
+    @Test
+    @DisplayName("Should return searched lessons in ranked order and skip ones no longer stored")
+    void shouldSearchLessonsInRankedOrder() {
+        // Given
+        when(lessonSearchIndex.search("angular", pageable)).thenReturn(new PageImpl<>(List.of(3L, 1L, 2L), pageable, 3));
+        when(lessonRepository.findLessonDTOsByIdIn(List.of(3L, 1L, 2L))).thenReturn(List.of(
+                new LessonDTO(1L, "Introduction to Angular", "dQw4w9WgXcQ"),
+                new LessonDTO(3L, "Angular", "abcdefghijk")));
+
+        // When
+        Page<LessonDTO> result = lessonService.searchLessons("angular", pageable);
+
+        // Then
+        assertEquals(List.of(3L, 1L), result.getContent().stream().map(LessonDTO::id).toList());
+        assertEquals(2, result.getTotalElements());
+    }
+
+    @Test
+    @DisplayName("Should not query the database when the search has no hits")
+    void shouldNotQueryDatabaseWithoutSearchHits() {
+        // Given
+        when(lessonSearchIndex.search("kotlin", pageable)).thenReturn(Page.empty(pageable));
+
+        // When
+        Page<LessonDTO> result = lessonService.searchLessons("kotlin", pageable);
+
+        // Then
+        assertTrue(result.isEmpty());
+        verify(lessonRepository, never()).findLessonDTOsByIdIn(any());
     }
 
     @Test
@@ -188,38 +288,38 @@ class LessonServiceTest {
     @DisplayName("Should list all lessons with pagination")
     void shouldListAllLessonsWithPagination() {
         // Given
-        List<Lesson> lessons = List.of(lesson);
-        Page<Lesson> lessonPage = new PageImpl<>(lessons, pageable, 1);
+        List<LessonDTO> lessonDTOs = List.of(new LessonDTO(1L, "Introduction to Angular", "dQw4w9WgXcQ"));
+        Page<LessonDTO> lessonPage = new PageImpl<>(lessonDTOs, pageable, 1);
 
-        when(lessonRepository.findAll(pageable)).thenReturn(lessonPage);
+        when(lessonRepository.findAllLessonDTOs(pageable)).thenReturn(lessonPage);
 
         // When
-        Page<Lesson> result = lessonService.listAllLessons(pageable);
+        Page<LessonDTO> result = lessonService.listAllLessons(pageable);
 
         // Then
         assertNotNull(result);
         assertEquals(1, result.getTotalElements());
-        assertEquals("Introduction to Angular", result.getContent().getFirst().getName());
-        verify(lessonRepository, times(1)).findAll(pageable);
+        assertEquals("Introduction to Angular", result.getContent().getFirst().name());
+        verify(lessonRepository, times(1)).findAllLessonDTOs(pageable);
     }
 
     @Test
     @DisplayName("Should list lessons by course ID")
     void shouldListLessonsByCourseId() {
         // Given
-        List<Lesson> lessons = List.of(lesson);
-        Page<Lesson> lessonPage = new PageImpl<>(lessons, pageable, 1);
+        List<LessonDTO> lessonDTOs = List.of(new LessonDTO(1L, "Introduction to Angular", "dQw4w9WgXcQ"));
+        Page<LessonDTO> lessonPage = new PageImpl<>(lessonDTOs, pageable, 1);
 
-        when(lessonRepository.findByCourseId(1L, pageable)).thenReturn(lessonPage);
+        when(lessonRepository.findLessonDTOsByCourseId(1L, pageable)).thenReturn(lessonPage);
 
         // When
-        Page<Lesson> result = lessonService.listLessonsByCourse(1L, pageable);
+        Page<LessonDTO> result = lessonService.listLessonsByCourse(1L, pageable);
 
         // Then
         assertNotNull(result);
         assertEquals(1, result.getTotalElements());
-        assertEquals("Introduction to Angular", result.getContent().getFirst().getName());
-        verify(lessonRepository, times(1)).findByCourseId(1L, pageable);
+        assertEquals("Introduction to Angular", result.getContent().getFirst().name());
+        verify(lessonRepository, times(1)).findLessonDTOsByCourseId(1L, pageable);
     }
 
     @Test
@@ -269,7 +369,8 @@ class LessonServiceTest {
         newLesson.setName("RxJS Operators");
         newLesson.setYoutubeUrl("rxjs123456");
 
-        when(courseRepository.findById(1L)).thenReturn(Optional.of(course));
+        when(courseRepository.existsById(1L)).thenReturn(true);
+        when(courseRepository.getReferenceById(1L)).thenReturn(course);
         when(lessonRepository.save(any(Lesson.class))).thenAnswer(invocation -> {
             Lesson saved = invocation.getArgument(0);
             saved.setId(2L);
@@ -283,14 +384,16 @@ class LessonServiceTest {
         assertNotNull(result);
         assertEquals(course, result.getCourse());
         assertEquals("RxJS Operators", result.getName());
-        verify(courseRepository, times(1)).findById(1L);
+        verify(courseRepository, times(1)).existsById(1L);
         verify(lessonRepository, times(1)).save(any(Lesson.class));
+        verify(courseRepository, times(1)).findByIdForVersionIncrement(1L);
     }
 
     @Test
     @DisplayName("Should update only lesson name and URL without changing course")
     void shouldUpdateOnlyLessonDataWithoutChangingCourse() {
         // Given
+        runUpdatesOnce();
         Lesson updateData = new Lesson();
         updateData.setName("Updated Lesson Name");
         updateData.setYoutubeUrl("updated1234");
@@ -299,7 +402,7 @@ class LessonServiceTest {
         when(lessonRepository.save(any(Lesson.class))).thenReturn(lesson);
 
         // When
-        Lesson result = lessonService.updateLesson(1L, updateData);
+        Lesson result = lessonService.updateLesson(1L, updateData, null);
 
         // Then
         assertNotNull(result);
@@ -307,4 +410,10 @@ class LessonServiceTest {
         verify(lessonRepository, times(1)).findById(1L);
         verify(lessonRepository, times(1)).save(any(Lesson.class));
     }
-}
\ No newline at end of file
+
+    // Runs the update as a single first attempt, the way it goes when no other write races it.
+    private void runUpdatesOnce() {
+        when(optimisticUpdateExecutor.execute(any())).thenAnswer(invocation ->
+                invocation.<IntFunction<?>>getArgument(0).apply(1));
+    }
+}